@@ -0,0 +1,6 @@
+-- Пачка из 50 заявок одним многострочным INSERT — то, что отправляет Hibernate
+-- при hibernate.jdbc.batch_size=50 и reWriteBatchedInserts=true.
+-- pgbench -n -c 1 -t 2000 -f bench/batch/insert_batched.sql -D event_id=<id>   (2000 × 50 = 100k строк)
+INSERT INTO event_service.event_applications (event_id, user_id, status, seat_reserved)
+SELECT :event_id, nextval('event_service.bench_seat_user_seq'), 'pending', true
+FROM generate_series(1, 50);
@@ -0,0 +1,4 @@
+-- Прежняя вставка (IDENTITY): одна заявка — один INSERT и один round trip.
+-- pgbench -n -c 1 -t 100000 -f bench/batch/insert_single.sql -D event_id=<id>
+INSERT INTO event_service.event_applications (event_id, user_id, status, seat_reserved)
+VALUES (:event_id, nextval('event_service.bench_seat_user_seq'), 'pending', true);
@@ -0,0 +1,22 @@
+-- Байт на страницу из 21 строки: полная строка против карточки.
+-- pg_column_size считает размер в памяти сервера (со сжатием TOAST); по сети идёт не меньше octet_length.
+WITH page AS (
+    SELECT * FROM event_service.events
+    WHERE status = 'published'
+    ORDER BY start_date, id
+    LIMIT 21
+)
+SELECT 'entity' AS shape,
+       sum(pg_column_size(p.*))                                                 AS stored_bytes,
+       sum(octet_length(p::text))                                               AS text_bytes
+FROM page p
+UNION ALL
+SELECT 'card',
+       sum(pg_column_size(c.*)),
+       sum(octet_length(c::text))
+FROM (
+    SELECT id, title, category_id, image_url, status, event_type, start_date, end_date,
+           location_name, latitude, longitude, max_participants, current_participants,
+           views_count, is_featured, tags, created_at
+    FROM page
+) c;
@@ -0,0 +1,10 @@
+-- Карточки (EventRepository.findCardPageByStatus): только столбцы EventRepository.CARD_COLUMNS
+\set days random(0, 364)
+SELECT e.id, e.title, e.category_id, e.image_url, e.status, e.event_type, e.start_date, e.end_date,
+       e.location_name, e.latitude, e.longitude, e.max_participants, e.current_participants,
+       e.views_count, e.is_featured, e.tags, e.created_at
+FROM event_service.events e
+WHERE e.status = 'published'
+  AND e.start_date >= date_trunc('day', now()) + :days * interval '1 day'
+ORDER BY e.start_date, e.id
+LIMIT 21;
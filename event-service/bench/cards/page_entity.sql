@@ -0,0 +1,7 @@
+-- Прежняя лента: полные строки events (SELECT e.* из JPQL-запроса), страница из 21 строки
+\set days random(0, 364)
+SELECT e.* FROM event_service.events e
+WHERE e.status = 'published'
+  AND e.start_date >= date_trunc('day', now()) + :days * interval '1 day'
+ORDER BY e.start_date, e.id
+LIMIT 21;
@@ -0,0 +1,8 @@
+-- Реалистичный объём текста для сравнения карточек и сущностей: ~8 КБ контента и ~1 КБ описания.
+-- psql -f bench/cards/seed_content.sql (после bench/seed_events.sql)
+UPDATE event_service.events
+SET description = repeat(coalesce(description, 'Описание события') || '. ', 30),
+    content     = repeat('Подробное описание программы события, правила участия и контакты организаторов. ', 80)
+WHERE content IS NULL;
+
+VACUUM ANALYZE event_service.events;
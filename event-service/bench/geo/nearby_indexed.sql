@@ -0,0 +1,19 @@
+-- Новый запрос (EventRepository.findNearbyPublishedEvents): прямоугольник по GiST-индексу + точное расстояние, первая страница
+\set dlat random(-5000, 5000)
+\set dlon random(-5000, 5000)
+SELECT e.id, d.distance_km
+FROM event_service.events e
+CROSS JOIN LATERAL (
+    SELECT 2 * 6371 * asin(sqrt(
+            power(sin(radians(e.latitude::double precision - (55.75 + :dlat / 10000.0)) / 2), 2) +
+            cos(radians(55.75 + :dlat / 10000.0)) * cos(radians(e.latitude::double precision)) *
+            power(sin(radians(e.longitude::double precision - (37.62 + :dlon / 10000.0)) / 2), 2))) AS distance_km
+) d
+WHERE e.status = 'published'
+  AND e.latitude IS NOT NULL AND e.longitude IS NOT NULL
+  AND point(e.longitude::double precision, e.latitude::double precision)
+      <@ box(point(37.62 + :dlon / 10000.0 - 0.0805, 55.75 + :dlat / 10000.0 - 0.0451),
+             point(37.62 + :dlon / 10000.0 + 0.0805, 55.75 + :dlat / 10000.0 + 0.0451))
+  AND d.distance_km <= 5
+ORDER BY d.distance_km, e.id
+LIMIT 21;
@@ -0,0 +1,11 @@
+-- Прежний запрос: acos по каждой опубликованной строке, без LIMIT, сортировка по дате
+\set dlat random(-5000, 5000)
+\set dlon random(-5000, 5000)
+SELECT e.*
+FROM event_service.events e
+WHERE e.status = 'published'
+  AND e.latitude IS NOT NULL AND e.longitude IS NOT NULL
+  AND (6371 * acos(cos(radians(55.75 + :dlat / 10000.0)) * cos(radians(e.latitude)) *
+       cos(radians(e.longitude) - radians(37.62 + :dlon / 10000.0)) +
+       sin(radians(55.75 + :dlat / 10000.0)) * sin(radians(e.latitude)))) <= 5
+ORDER BY e.start_date;
@@ -0,0 +1,8 @@
+-- Keyset-лента (EventRepository.findCardPageByStatus): страница после случайной позиции, без COUNT(*)
+\set days random(0, 364)
+SELECT * FROM event_service.events e
+WHERE e.status = 'published'
+  AND e.start_date >= date_trunc('day', now()) + :days * interval '1 day'
+  AND (e.start_date > date_trunc('day', now()) + :days * interval '1 day' OR e.id > 0)
+ORDER BY e.start_date, e.id
+LIMIT 21;
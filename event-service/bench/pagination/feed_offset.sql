@@ -0,0 +1,5 @@
+-- Прежняя лента: OFFSET-пагинация + COUNT(*) для Page, случайная глубина до 2000-й страницы
+\set page random(0, 2000)
+SELECT count(*) FROM event_service.events WHERE status = 'published';
+SELECT * FROM event_service.events WHERE status = 'published'
+ORDER BY start_date LIMIT 20 OFFSET :page * 20;
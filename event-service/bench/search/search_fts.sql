@@ -0,0 +1,13 @@
+-- Новый запрос searchPublishedEventsRanked: search_vector по GIN, ранжирование, первая страница
+\set n random(0, 4)
+SELECT r.id, r.score
+FROM (
+    SELECT e.id, ts_rank_cd(e.search_vector, q.query) AS score
+    FROM event_service.events e,
+         (SELECT websearch_to_tsquery('pg_catalog.russian', t) || websearch_to_tsquery('pg_catalog.english', t)
+                 || websearch_to_tsquery('pg_catalog.simple', t) AS query
+          FROM (SELECT (ARRAY['марафон', 'приют', 'hackathon', 'ярмарка', 'парк'])[1 + :n] AS t) term) q
+    WHERE e.status = 'published' AND e.search_vector @@ q.query
+) r
+ORDER BY r.score DESC, r.id ASC
+LIMIT 21;
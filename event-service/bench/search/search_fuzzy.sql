@@ -0,0 +1,11 @@
+-- Запасной запрос searchPublishedEventsFuzzy: похожесть названия по триграммам (запрос с опечаткой)
+\set n random(0, 4)
+SELECT r.id, r.score
+FROM (
+    SELECT e.id, word_similarity(t.term, e.title) AS score
+    FROM event_service.events e,
+         (SELECT (ARRAY['марафн', 'субботнк', 'хакатон', 'фестивль', 'выстовка'])[1 + :n] AS term) t
+    WHERE e.status = 'published' AND t.term <% e.title
+) r
+ORDER BY r.score DESC, r.id ASC
+LIMIT 21;
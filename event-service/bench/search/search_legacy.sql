@@ -0,0 +1,9 @@
+-- Прежний запрос searchPublishedEvents: LOWER(...) LIKE '%term%' по названию и описанию
+\set n random(0, 4)
+SELECT e.*
+FROM event_service.events e
+WHERE e.status = 'published'
+  AND (lower(e.title) LIKE '%' || (ARRAY['марафон', 'приют', 'hackathon', 'ярмарка', 'парк'])[1 + :n] || '%'
+       OR lower(e.description) LIKE '%' || (ARRAY['марафон', 'приют', 'hackathon', 'ярмарка', 'парк'])[1 + :n] || '%')
+ORDER BY e.start_date
+LIMIT 20;
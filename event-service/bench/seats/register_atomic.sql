@@ -0,0 +1,14 @@
+-- Новая регистрация (SeatReservationService.register): заявка + условный UPDATE в одной транзакции.
+-- Если место не досталось, заявка не создаётся.
+WITH seat AS (
+    UPDATE event_service.events
+    SET current_participants = current_participants + 1
+    WHERE id = :event_id
+      AND status = 'published'
+      AND start_date > now()
+      AND (registration_deadline IS NULL OR registration_deadline > now())
+      AND (max_participants IS NULL OR current_participants < max_participants)
+    RETURNING id
+)
+INSERT INTO event_service.event_applications (event_id, user_id, status, seat_reserved)
+SELECT id, nextval('event_service.bench_seat_user_seq'), 'pending', true FROM seat;
@@ -0,0 +1,11 @@
+-- Прежняя регистрация: прочитать счётчик, проверить лимит в приложении, записать значение + 1.
+-- Параллельные клиенты читают одно и то же значение: обновления теряются, мест выдаётся больше лимита.
+BEGIN;
+SELECT current_participants AS current, max_participants AS max
+FROM event_service.events WHERE id = :event_id \gset
+\if :current < :max
+UPDATE event_service.events SET current_participants = :current + 1 WHERE id = :event_id;
+INSERT INTO event_service.event_applications (event_id, user_id, status, seat_reserved)
+VALUES (:event_id, nextval('event_service.bench_seat_user_seq'), 'pending', true);
+\endif
+END;
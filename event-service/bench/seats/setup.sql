@@ -0,0 +1,11 @@
+-- Событие на :seats мест для стресс-теста регистрации: psql -v seats=1000 -f bench/seats/setup.sql
+-- Печатает id события для pgbench -D event_id=...
+CREATE SEQUENCE IF NOT EXISTS event_service.bench_seat_user_seq START 1000000;
+
+INSERT INTO event_service.events (title, description, category_id, status, event_type,
+                                  start_date, end_date, author_id, max_participants)
+SELECT 'Стресс-тест регистрации', 'Событие для bench/seats',
+       (SELECT min(id) FROM event_service.categories),
+       'published', 'offline',
+       now() + interval '30 days', now() + interval '30 days 3 hours', 1, :seats
+RETURNING id AS event_id;
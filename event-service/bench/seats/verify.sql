@@ -0,0 +1,11 @@
+-- Проверка после прогона: psql -v event_id=<id> -f bench/seats/verify.sql
+-- oversold и lost_updates должны быть равны 0.
+SELECT e.max_participants,
+       e.current_participants,
+       count(ea.id) FILTER (WHERE ea.seat_reserved)                              AS reserved_applications,
+       greatest(count(ea.id) FILTER (WHERE ea.seat_reserved) - e.max_participants, 0) AS oversold,
+       count(ea.id) FILTER (WHERE ea.seat_reserved) - e.current_participants        AS lost_updates
+FROM event_service.events e
+LEFT JOIN event_service.event_applications ea ON ea.event_id = e.id
+WHERE e.id = :event_id
+GROUP BY e.id;
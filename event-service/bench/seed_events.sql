@@ -0,0 +1,24 @@
+-- Тестовые события для бенчмарков: psql -v rows=100000 -f bench/seed_events.sql
+-- Координаты — Москва и область, 80% событий опубликованы.
+WITH cats AS (
+    SELECT array_agg(id ORDER BY id) AS ids FROM event_service.categories
+)
+INSERT INTO event_service.events (title, description, category_id, status, event_type,
+                                  start_date, end_date, author_id, latitude, longitude, tags)
+SELECT (ARRAY['Субботник', 'Концерт', 'Лекция', 'Марафон', 'Выставка',
+              'Хакатон', 'Workshop', 'Meetup', 'Фестиваль', 'Турнир'])[1 + g % 10] || ' ' || g,
+       'Описание события: ' ||
+       (ARRAY['уборка парка', 'помощь приюту', 'городской забег', 'лекция по истории', 'donor day',
+              'open source sprint', 'экологическая акция', 'благотворительная ярмарка'])[1 + g % 8],
+       cats.ids[1 + g % array_length(cats.ids, 1)],
+       CASE WHEN g % 10 < 8 THEN 'published' ELSE 'draft' END,
+       CASE WHEN g % 3 = 0 THEN 'online' ELSE 'offline' END,
+       now() + (g % 365) * interval '1 day',
+       now() + (g % 365) * interval '1 day' + interval '3 hours',
+       1 + g % 1000,
+       55.0 + random() * 1.5,
+       36.5 + random() * 2.5,
+       ARRAY['tag' || (g % 50), 'tag' || (g % 7)]
+FROM generate_series(1, :rows) AS g, cats;
+
+ANALYZE event_service.events;
@@ -0,0 +1,8 @@
+-- EventRepository.findCardPageByAnyTag: любой из тегов, первая страница
+\set a random(0, 49)
+\set b random(0, 6)
+SELECT e.id, e.title, e.start_date, e.tags
+FROM event_service.events e
+WHERE e.status = 'published' AND e.tags && ARRAY['tag' || :a, 'tag' || :b]
+ORDER BY e.start_date, e.id
+LIMIT 21;
@@ -0,0 +1,6 @@
+-- Пачка EventViewCounter: приросты по 100 популярным событиям одним UPDATE (раз в интервал на узел)
+UPDATE event_service.events e
+SET views_count = e.views_count + d.delta
+FROM unnest(ARRAY(SELECT generate_series(1, 100))::bigint[],
+            ARRAY(SELECT (random() * 50)::bigint FROM generate_series(1, 100))) AS d(id, delta)
+WHERE e.id = d.id;
@@ -0,0 +1,3 @@
+-- Прежняя запись просмотра: UPDATE горячей строки на каждый просмотр (100 популярных событий)
+\set id random(1, 100)
+UPDATE event_service.events SET views_count = views_count + 1 WHERE id = :id;
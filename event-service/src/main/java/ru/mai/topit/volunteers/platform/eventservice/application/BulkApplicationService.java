@@ -0,0 +1,163 @@
+package ru.mai.topit.volunteers.platform.eventservice.application;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventFullException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventNotFoundException;
+import ru.mai.topit.volunteers.platform.eventservice.domain.Event;
+import ru.mai.topit.volunteers.platform.eventservice.domain.EventApplication;
+import ru.mai.topit.volunteers.platform.eventservice.domain.EventApplicationStatus;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventApplicationRepository;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Массовые операции с заявками.
+ * <p>
+ * Заявки пишутся пачками по {@link #CHUNK_SIZE}: id берутся из пула последовательности,
+ * поэтому Hibernate отправляет INSERT/UPDATE JDBC-пачками ({@code hibernate.jdbc.batch_size}).
+ * После каждой пачки контекст персистентности очищается, чтобы он не рос с размером запроса.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkApplicationService {
+
+    public static final int MAX_BULK_SIZE = 10_000;
+
+    /**
+     * Совпадает с {@code hibernate.jdbc.batch_size}.
+     */
+    static final int CHUNK_SIZE = 50;
+
+    private static final List<String> ACTIVE_STATUSES = List.of(
+            EventApplicationStatus.PENDING.getValue(),
+            EventApplicationStatus.APPROVED.getValue());
+
+    private final EventRepository eventRepository;
+    private final EventApplicationRepository applicationRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Заявка для импорта.
+     */
+    public record ApplicationImport(Long userId, String message, Map<String, Object> contactInfo) {
+    }
+
+    /**
+     * Итог массовой операции: сколько заявок обработано и сколько пропущено.
+     */
+    public record BulkResult(int processed, int skipped) {
+    }
+
+    /**
+     * Импортировать заявки на событие в статусе pending.
+     * Пользователи с действующей заявкой и повторы в запросе пропускаются.
+     * Места занимаются одним условным UPDATE на всю пачку: если мест не хватает, импорт откатывается целиком.
+     *
+     * @throws EventFullException если свободных мест меньше, чем новых заявок
+     */
+    @Transactional
+    public BulkResult importApplications(Long eventId, List<ApplicationImport> applications) {
+        checkSize(applications);
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+
+        Map<Long, ApplicationImport> byUser = new LinkedHashMap<>();
+        applications.forEach(application -> byUser.putIfAbsent(application.userId(), application));
+        Set<Long> existing = new HashSet<>();
+        for (List<Long> userIds : chunks(new ArrayList<>(byUser.keySet()), 1000)) {
+            existing.addAll(applicationRepository.findUserIdsWithApplication(eventId, userIds, ACTIVE_STATUSES));
+        }
+        existing.forEach(byUser::remove);
+
+        List<EventApplication> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (ApplicationImport item : byUser.values()) {
+            EventApplication application = EventApplication.apply(event, item.userId());
+            application.setMessage(item.message());
+            application.setContactInfo(item.contactInfo());
+            application.markSeatReserved();
+            chunk.add(application);
+            if (chunk.size() == CHUNK_SIZE) {
+                writeChunk(chunk);
+            }
+        }
+        writeChunk(chunk);
+
+        int imported = byUser.size();
+        if (imported > 0 && eventRepository.tryReserveSeats(eventId, imported) == 0) {
+            throw new EventFullException(eventId);
+        }
+        return new BulkResult(imported, applications.size() - imported);
+    }
+
+    /**
+     * Одобрить заявки. Заявки не в статусе pending и несуществующие id пропускаются.
+     * Заявкам без места места занимаются одним условным UPDATE на событие в пачке.
+     *
+     * @throws EventFullException если для заявок без места не хватает свободных мест; одобрение откатывается целиком
+     */
+    @Transactional
+    public BulkResult approveAll(Collection<Long> applicationIds, Long reviewerId) {
+        checkSize(applicationIds);
+        List<Long> distinctIds = new ArrayList<>(new HashSet<>(applicationIds));
+        int approved = 0;
+        for (List<Long> ids : chunks(distinctIds, CHUNK_SIZE)) {
+            List<EventApplication> chunk = applicationRepository.findAllById(ids);
+            Map<Long, Integer> missingSeats = new HashMap<>();
+            for (EventApplication application : chunk) {
+                if (application.isPending()) {
+                    if (!application.hasSeatReserved()) {
+                        missingSeats.merge(application.getEvent().getId(), 1, Integer::sum);
+                        application.markSeatReserved();
+                    }
+                    application.approve(reviewerId);
+                    approved++;
+                }
+            }
+            missingSeats.forEach((eventId, seats) -> {
+                if (eventRepository.tryReserveSeats(eventId, seats) == 0) {
+                    throw new EventFullException(eventId);
+                }
+            });
+            // saveAll публикует доменные события одобрения в outbox
+            applicationRepository.saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return new BulkResult(approved, distinctIds.size() - approved);
+    }
+
+    private void writeChunk(List<EventApplication> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        applicationRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    private static void checkSize(Collection<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Bulk request must contain between 1 and " + MAX_BULK_SIZE + " items");
+        }
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items, int size) {
+        List<List<T>> result = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            result.add(items.subList(from, Math.min(from + size, items.size())));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package ru.mai.topit.volunteers.platform.eventservice.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mai.topit.volunteers.platform.eventservice.application.pagination.KeysetPage;
+import ru.mai.topit.volunteers.platform.eventservice.application.pagination.TimeKeyset;
+import ru.mai.topit.volunteers.platform.eventservice.domain.EventApplication;
+import ru.mai.topit.volunteers.platform.eventservice.domain.EventApplicationStatus;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventApplicationRepository;
+
+import java.util.List;
+
+/**
+ * Списки заявок с курсорной пагинацией: новые первыми, без OFFSET и без COUNT(*).
+ */
+@Service
+@RequiredArgsConstructor
+public class EventApplicationQueryService {
+
+    private static final String BY_APPLICATION_DATE = "app-date";
+    private static final String BY_REVIEW_DATE = "app-review";
+
+    private final EventApplicationRepository applicationRepository;
+
+    /**
+     * Заявки на событие.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EventApplication> findByEvent(Long eventId, String cursor, int size) {
+        TimeKeyset before = TimeKeyset.decode(cursor, BY_APPLICATION_DATE, TimeKeyset.DESC_START);
+        return byApplicationDate(applicationRepository.findPageByEvent(
+                eventId, before.time(), before.id(), KeysetPage.fetchLimit(size)), size);
+    }
+
+    /**
+     * Заявки пользователя.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EventApplication> findByUser(Long userId, String cursor, int size) {
+        TimeKeyset before = TimeKeyset.decode(cursor, BY_APPLICATION_DATE, TimeKeyset.DESC_START);
+        return byApplicationDate(applicationRepository.findPageByUser(
+                userId, before.time(), before.id(), KeysetPage.fetchLimit(size)), size);
+    }
+
+    /**
+     * Заявки в статусе {@code status}.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EventApplication> findByStatus(EventApplicationStatus status, String cursor, int size) {
+        TimeKeyset before = TimeKeyset.decode(cursor, BY_APPLICATION_DATE, TimeKeyset.DESC_START);
+        return byApplicationDate(applicationRepository.findPageByStatus(
+                status.getValue(), before.time(), before.id(), KeysetPage.fetchLimit(size)), size);
+    }
+
+    /**
+     * Заявки, рассмотренные пользователем, по дате рассмотрения.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EventApplication> findByReviewer(Long reviewerId, String cursor, int size) {
+        TimeKeyset before = TimeKeyset.decode(cursor, BY_REVIEW_DATE, TimeKeyset.DESC_START);
+        List<EventApplication> rows = applicationRepository.findPageByReviewer(
+                reviewerId, before.time(), before.id(), KeysetPage.fetchLimit(size));
+        return KeysetPage.of(rows, size,
+                application -> new TimeKeyset(application.getReviewDate(), application.getId()).encode(BY_REVIEW_DATE));
+    }
+
+    private static KeysetPage<EventApplication> byApplicationDate(List<EventApplication> rows, int size) {
+        return KeysetPage.of(rows, size,
+                application -> new TimeKeyset(application.getApplicationDate(), application.getId()).encode(BY_APPLICATION_DATE));
+    }
+}
@@ -0,0 +1,32 @@
+package ru.mai.topit.volunteers.platform.eventservice.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventNotFoundException;
+import ru.mai.topit.volunteers.platform.eventservice.application.views.EventViewCounter;
+import ru.mai.topit.volunteers.platform.eventservice.domain.Event;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+/**
+ * Страница события: единственное место, где загружается полная сущность с описанием и контентом.
+ * Списки используют карточки, см. {@link EventFeedService}.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventDetailsService {
+
+    private final EventRepository eventRepository;
+    private final EventViewCounter eventViewCounter;
+
+    /**
+     * Событие по id; просмотр учитывается в {@link EventViewCounter}.
+     */
+    @Transactional(readOnly = true)
+    public Event getEvent(Long eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        eventViewCounter.recordView(eventId);
+        return event;
+    }
+}
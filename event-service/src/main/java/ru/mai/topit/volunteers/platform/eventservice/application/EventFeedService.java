@@ -0,0 +1,96 @@
+package ru.mai.topit.volunteers.platform.eventservice.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mai.topit.volunteers.platform.eventservice.application.card.EventCard;
+import ru.mai.topit.volunteers.platform.eventservice.application.card.EventCardMapper;
+import ru.mai.topit.volunteers.platform.eventservice.application.pagination.KeysetPage;
+import ru.mai.topit.volunteers.platform.eventservice.application.pagination.TimeKeyset;
+import ru.mai.topit.volunteers.platform.eventservice.domain.Event;
+import ru.mai.topit.volunteers.platform.eventservice.domain.EventStatus;
+import ru.mai.topit.volunteers.platform.eventservice.domain.EventType;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Ленты событий с курсорной пагинацией: без OFFSET и без COUNT(*).
+ * Возвращают карточки {@link EventCard} без описания и контента.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventFeedService {
+
+    private static final String BY_START = "ev-start";
+    private static final String BY_CREATED = "ev-created";
+
+    private final EventRepository eventRepository;
+    private final EventCardMapper eventCardMapper;
+
+    /**
+     * Опубликованные события по дате начала.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EventCard> findPublished(String cursor, int size) {
+        TimeKeyset after = TimeKeyset.decode(cursor, BY_START, TimeKeyset.ASC_START);
+        return byStart(eventRepository.findCardPageByStatus(
+                EventStatus.PUBLISHED.getValue(), after.time(), after.id(), KeysetPage.fetchSize(size)), size);
+    }
+
+    /**
+     * Опубликованные события категории по дате начала.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EventCard> findPublishedByCategory(Long categoryId, String cursor, int size) {
+        TimeKeyset after = TimeKeyset.decode(cursor, BY_START, TimeKeyset.ASC_START);
+        return byStart(eventRepository.findCardPageByStatusAndCategory(
+                EventStatus.PUBLISHED.getValue(), categoryId, after.time(), after.id(), KeysetPage.fetchSize(size)), size);
+    }
+
+    /**
+     * Опубликованные события заданного типа по дате начала.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EventCard> findPublishedByType(EventType eventType, String cursor, int size) {
+        TimeKeyset after = TimeKeyset.decode(cursor, BY_START, TimeKeyset.ASC_START);
+        return byStart(eventRepository.findCardPageByStatusAndEventType(
+                EventStatus.PUBLISHED.getValue(), eventType.getValue(), after.time(), after.id(), KeysetPage.fetchSize(size)), size);
+    }
+
+    /**
+     * Опубликованные события с тегами по дате начала: с любым из тегов или со всеми сразу.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EventCard> findPublishedByTags(Collection<String> tags, TagMatchMode mode, String cursor, int size) {
+        List<String> normalized = Event.normalizeTags(tags);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("At least one tag is required");
+        }
+        String[] tagArray = normalized.toArray(String[]::new);
+        TimeKeyset after = TimeKeyset.decode(cursor, BY_START, TimeKeyset.ASC_START);
+        String status = EventStatus.PUBLISHED.getValue();
+        List<EventRepository.EventCardRow> rows = mode == TagMatchMode.ALL
+                ? eventRepository.findCardPageByAllTags(status, tagArray, after.time(), after.id(), KeysetPage.fetchSize(size))
+                : eventRepository.findCardPageByAnyTag(status, tagArray, after.time(), after.id(), KeysetPage.fetchSize(size));
+        return byStart(rows, size);
+    }
+
+    /**
+     * События автора, новые первыми.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<EventCard> findByAuthor(Long authorId, String cursor, int size) {
+        TimeKeyset before = TimeKeyset.decode(cursor, BY_CREATED, TimeKeyset.DESC_START);
+        List<EventRepository.EventCardRow> rows = eventRepository.findCardPageByAuthor(
+                authorId, before.time(), before.id(), KeysetPage.fetchSize(size));
+        return KeysetPage.of(rows, size, row -> new TimeKeyset(row.getCreatedAt(), row.getId()).encode(BY_CREATED))
+                .map(eventCardMapper::toCard);
+    }
+
+    private KeysetPage<EventCard> byStart(List<EventRepository.EventCardRow> rows, int size) {
+        return KeysetPage.of(rows, size, row -> new TimeKeyset(row.getStartDate(), row.getId()).encode(BY_START))
+                .map(eventCardMapper::toCard);
+    }
+}
@@ -0,0 +1,125 @@
+package ru.mai.topit.volunteers.platform.eventservice.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.ApplicationAlreadyExistsException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventApplicationNotFoundException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventFullException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.InvalidApplicationStatusException;
+import ru.mai.topit.volunteers.platform.eventservice.application.submission.ApplicationSubmissionService;
+import ru.mai.topit.volunteers.platform.eventservice.domain.Event;
+import ru.mai.topit.volunteers.platform.eventservice.domain.EventApplication;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventApplicationRepository;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+import java.util.Map;
+
+/**
+ * Подача и рассмотрение заявок с учётом мест на событии.
+ * <p>
+ * Место занимается при подаче заявки условным UPDATE в функции submit_application
+ * (те же условия, что у {@link EventRepository#tryReserveSeat}) и возвращается при отклонении или отмене.
+ * Заявка без места (например, поданная до учёта мест) занимает его при одобрении. Сущность {@link Event} счётчик не перезаписывает,
+ * поэтому параллельные регистрации не теряют обновления и не превышают лимит.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatReservationService {
+
+    private final EventRepository eventRepository;
+    private final EventApplicationRepository applicationRepository;
+    private final ApplicationSubmissionService submissionService;
+
+    /**
+     * Подать заявку и занять место.
+     * <p>
+     * Проверки, вставка заявки и занятие места выполняются одним вызовом
+     * {@link ApplicationSubmissionService}; место занимается под блокировкой строки события,
+     * которая держится только до коммита.
+     *
+     * @throws EventFullException если свободных мест нет
+     * @throws ApplicationAlreadyExistsException если у пользователя уже есть действующая заявка
+     */
+    @Transactional
+    public EventApplication register(Long eventId, Long userId, String message, Map<String, Object> contactInfo) {
+        var result = submissionService.submit(eventId, userId, message, contactInfo, null);
+        Long applicationId = ApplicationSubmissionService.requireAccepted(result, eventId, userId);
+        return getApplication(applicationId);
+    }
+
+    /**
+     * Одобрить заявку. Место обычно уже занято при подаче; если нет, оно занимается сейчас.
+     *
+     * @throws EventFullException если у заявки нет места, а свободных мест не осталось
+     */
+    @Transactional
+    public EventApplication approve(Long applicationId, Long reviewerId) {
+        EventApplication application = getApplication(applicationId);
+        if (!application.isPending()) {
+            throw new InvalidApplicationStatusException(applicationId, application.getStatus(), "approve");
+        }
+        reserveSeat(application);
+        application.approve(reviewerId);
+        return applicationRepository.save(application);
+    }
+
+    /**
+     * Отклонить заявку и вернуть место.
+     */
+    @Transactional
+    public EventApplication reject(Long applicationId, Long reviewerId, String comment) {
+        EventApplication application = getApplication(applicationId);
+        if (!application.isPending()) {
+            throw new InvalidApplicationStatusException(applicationId, application.getStatus(), "reject");
+        }
+        application.reject(reviewerId, comment);
+        releaseSeat(application);
+        return applicationRepository.save(application);
+    }
+
+    /**
+     * Отменить заявку пользователем и вернуть место.
+     */
+    @Transactional
+    public EventApplication cancel(Long applicationId, Long userId) {
+        EventApplication application = getApplication(applicationId);
+        if (!application.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("Application does not belong to user " + userId);
+        }
+        if (application.isCancelled()) {
+            throw new InvalidApplicationStatusException(applicationId, application.getStatus(), "cancel");
+        }
+        application.cancel();
+        releaseSeat(application);
+        return applicationRepository.save(application);
+    }
+
+    private EventApplication getApplication(Long applicationId) {
+        return applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new EventApplicationNotFoundException(applicationId));
+    }
+
+    private void reserveSeat(EventApplication application) {
+        if (application.hasSeatReserved()) {
+            return;
+        }
+        Long eventId = application.getEvent().getId();
+        if (eventRepository.tryReserveSeat(eventId) == 0) {
+            throw new EventFullException(eventId);
+        }
+        application.markSeatReserved();
+    }
+
+    private void releaseSeat(EventApplication application) {
+        if (!application.releaseSeat()) {
+            return;
+        }
+        Long eventId = application.getEvent().getId();
+        if (eventRepository.releaseSeat(eventId) == 0) {
+            log.warn("Seat counter of event {} is already zero, application {}", eventId, application.getId());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ru.mai.topit.volunteers.platform.eventservice.application;
+
+/**
+ * Режим фильтрации событий по тегам.
+ */
+public enum TagMatchMode {
+    /**
+     * Есть хотя бы один из тегов.
+     */
+    ANY,
+    /**
+     * Есть все теги.
+     */
+    ALL
+}
@@ -0,0 +1,32 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.card;
+
+import ru.mai.topit.volunteers.platform.eventservice.application.catalog.CategoryView;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Карточка события для лент, поиска и карты.
+ * Не содержит описания и контента: полная сущность загружается только для страницы события.
+ */
+public record EventCard(
+        Long id,
+        String title,
+        CategoryView category,
+        String imageUrl,
+        String status,
+        String eventType,
+        OffsetDateTime startDate,
+        OffsetDateTime endDate,
+        String locationName,
+        BigDecimal latitude,
+        BigDecimal longitude,
+        Integer maxParticipants,
+        int currentParticipants,
+        long viewsCount,
+        boolean featured,
+        List<String> tags,
+        OffsetDateTime createdAt
+) {
+}
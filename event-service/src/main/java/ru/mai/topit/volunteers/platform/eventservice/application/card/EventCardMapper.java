@@ -0,0 +1,56 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.card;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.mai.topit.volunteers.platform.eventservice.application.catalog.CategoryCatalog;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Собирает карточки из строк {@link EventRepository.EventCardRow}; категория берётся из {@link CategoryCatalog}.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventCardMapper {
+
+    private final CategoryCatalog categoryCatalog;
+    private final EventRepository eventRepository;
+
+    public EventCard toCard(EventRepository.EventCardRow row) {
+        return new EventCard(
+                row.getId(),
+                row.getTitle(),
+                categoryCatalog.findById(row.getCategoryId()).orElse(null),
+                row.getImageUrl(),
+                row.getStatus(),
+                row.getEventType(),
+                row.getStartDate(),
+                row.getEndDate(),
+                row.getLocationName(),
+                row.getLatitude(),
+                row.getLongitude(),
+                row.getMaxParticipants(),
+                row.getCurrentParticipants() != null ? row.getCurrentParticipants() : 0,
+                row.getViewsCount() != null ? row.getViewsCount() : 0,
+                Boolean.TRUE.equals(row.getFeatured()),
+                row.getTags() != null ? List.of(row.getTags()) : List.of(),
+                row.getCreatedAt());
+    }
+
+    /**
+     * Карточки событий по id одним запросом.
+     */
+    public Map<Long, EventCard> loadByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return eventRepository.findCardsByIds(ids).stream()
+                .map(this::toCard)
+                .collect(Collectors.toMap(EventCard::id, Function.identity()));
+    }
+}
@@ -0,0 +1,7 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.catalog;
+
+/**
+ * Категория создана, изменена или удалена в текущей транзакции.
+ */
+public record CategoriesChangedEvent(Long categoryId) {
+}
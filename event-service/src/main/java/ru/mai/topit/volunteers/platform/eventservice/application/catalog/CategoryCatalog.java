@@ -0,0 +1,111 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.catalog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.mai.topit.volunteers.platform.eventservice.domain.Category;
+import ru.mai.topit.volunteers.platform.eventservice.domain.Event;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.redis.CategoryCatalogNotifier;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.CategoryRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Каталог категорий в памяти.
+ * <p>
+ * Чтение идёт из неизменяемого снимка без обращения к БД. Снимок целиком пересобирается
+ * и атомарно подменяется после коммита изменения категории на этом узле, по сообщению
+ * {@link CategoryCatalogNotifier} с другого узла и раз в {@code category.catalog.refreshIntervalMillis}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryCatalog {
+
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
+    private final CategoryRepository categoryRepository;
+    private final CategoryCatalogNotifier notifier;
+
+    /**
+     * Активные категории по порядку сортировки.
+     */
+    public List<CategoryView> activeCategories() {
+        return current().active();
+    }
+
+    /**
+     * Активные категории, в имени которых есть {@code text} (без учёта регистра).
+     */
+    public List<CategoryView> findActiveByNameContaining(String text) {
+        return current().activeContaining(text);
+    }
+
+    /**
+     * Активные категории, имя которых начинается с {@code prefix} (без учёта регистра).
+     */
+    public List<CategoryView> findActiveByNamePrefix(String prefix) {
+        return current().activeStartingWith(prefix);
+    }
+
+    /**
+     * Категория по id, включая неактивные.
+     */
+    public Optional<CategoryView> findById(Long id) {
+        return Optional.ofNullable(current().get(id));
+    }
+
+    /**
+     * Категория события без загрузки ленивой связи {@link Event#getCategory()}:
+     * у прокси Hibernate берётся только id.
+     */
+    public Optional<CategoryView> categoryOf(Event event) {
+        Category category = event.getCategory();
+        return category != null ? findById(category.getId()) : Optional.empty();
+    }
+
+    /**
+     * Перечитать категории из БД и подменить снимок.
+     */
+    @Transactional(readOnly = true)
+    public void refresh() {
+        List<CategoryView> categories = categoryRepository.findAll().stream()
+                .map(CategoryView::of)
+                .toList();
+        snapshot.set(new CategorySnapshot(categories));
+        log.debug("Category catalog refreshed: {} categories", categories.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${category.catalog.refreshIntervalMillis:300000}",
+            initialDelayString = "${category.catalog.refreshIntervalMillis:300000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        refresh();
+        notifier.publishChange();
+    }
+
+    private CategorySnapshot current() {
+        CategorySnapshot current = snapshot.get();
+        if (current == null) {
+            refresh();
+            current = snapshot.get();
+        }
+        return current != null ? current : CategorySnapshot.EMPTY;
+    }
+}
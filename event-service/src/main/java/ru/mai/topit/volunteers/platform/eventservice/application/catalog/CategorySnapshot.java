@@ -0,0 +1,84 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Неизменяемый снимок каталога категорий.
+ * Активные категории упорядочены по sortOrder; для поиска по имени заранее подготовлены
+ * имена в нижнем регистре и упорядоченный индекс для поиска по префиксу.
+ */
+final class CategorySnapshot {
+
+    static final CategorySnapshot EMPTY = new CategorySnapshot(List.of());
+
+    private static final Comparator<CategoryView> BY_SORT_ORDER =
+            Comparator.comparingInt(CategoryView::sortOrder).thenComparing(CategoryView::id);
+
+    private final Map<Long, CategoryView> byId;
+    private final List<CategoryView> active;
+    private final String[] activeNames;
+    private final NavigableMap<String, List<CategoryView>> activeByName;
+
+    CategorySnapshot(Collection<CategoryView> categories) {
+        this.byId = categories.stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryView::id, Function.identity()));
+        this.active = categories.stream()
+                .filter(CategoryView::active)
+                .sorted(BY_SORT_ORDER)
+                .toList();
+        this.activeNames = active.stream()
+                .map(category -> normalize(category.name()))
+                .toArray(String[]::new);
+        TreeMap<String, List<CategoryView>> index = new TreeMap<>();
+        for (int i = 0; i < active.size(); i++) {
+            index.computeIfAbsent(activeNames[i], name -> new ArrayList<>()).add(active.get(i));
+        }
+        this.activeByName = index;
+    }
+
+    CategoryView get(Long id) {
+        return byId.get(id);
+    }
+
+    List<CategoryView> active() {
+        return active;
+    }
+
+    List<CategoryView> activeContaining(String text) {
+        String needle = normalize(text);
+        if (needle.isEmpty()) {
+            return active;
+        }
+        List<CategoryView> result = new ArrayList<>();
+        for (int i = 0; i < activeNames.length; i++) {
+            if (activeNames[i].contains(needle)) {
+                result.add(active.get(i));
+            }
+        }
+        return result;
+    }
+
+    List<CategoryView> activeStartingWith(String prefix) {
+        String from = normalize(prefix);
+        if (from.isEmpty()) {
+            return active;
+        }
+        return activeByName.subMap(from, true, from + Character.MAX_VALUE, false).values().stream()
+                .flatMap(List::stream)
+                .sorted(BY_SORT_ORDER)
+                .toList();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,28 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.catalog;
+
+import ru.mai.topit.volunteers.platform.eventservice.domain.Category;
+
+/**
+ * Неизменяемая копия категории для снимка каталога.
+ */
+public record CategoryView(
+        Long id,
+        String name,
+        String description,
+        String color,
+        String icon,
+        boolean active,
+        int sortOrder
+) {
+
+    public static CategoryView of(Category category) {
+        return new CategoryView(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.getColor(),
+                category.getIcon(),
+                Boolean.TRUE.equals(category.getIsActive()),
+                category.getSortOrder() != null ? category.getSortOrder() : 0);
+    }
+}
@@ -0,0 +1,99 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.counts;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.ApplicationCountProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.redis.RedisLease;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventApplicationRepository;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Сверяет event_application_counts и events.current_participants с заявками и исправляет расхождения.
+ * <p>
+ * Счётчики ведутся триггерами и в норме не расходятся; сверка страхует от правок в обход триггеров
+ * и от старых ошибок счётчика мест. События проходятся пачками по id, каждая пачка — один запрос
+ * в транзакции REPEATABLE READ; при конфликте с параллельной заявкой пачка повторяется.
+ * Сверку выполняет узел, взявший аренду в Redis; если Redis недоступен, прогон пропускается.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.counts", name = "reconcileEnabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationCountReconciler {
+
+    private final EventApplicationRepository applicationRepository;
+    private final RedisLease lease;
+    private final ApplicationCountProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter fixedCounts;
+    private final Counter fixedSeats;
+
+    public ApplicationCountReconciler(EventApplicationRepository applicationRepository,
+                                      RedisLease lease,
+                                      ApplicationCountProperties properties,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.applicationRepository = applicationRepository;
+        this.lease = lease;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.fixedCounts = Counter.builder("application.counts.fixed").tag("kind", "status").register(meterRegistry);
+        this.fixedSeats = Counter.builder("application.counts.fixed").tag("kind", "seats").register(meterRegistry);
+    }
+
+    /**
+     * Сверить все события.
+     *
+     * @return число исправленных строк счётчиков и событий
+     */
+    @Scheduled(fixedDelayString = "${application.counts.reconcileIntervalMillis:900000}")
+    public long reconcile() {
+        AtomicLong fixed = new AtomicLong();
+        lease.runLeased(properties.getLeaseKey(), properties.getLeaseTtl(), () -> reconcileBatches(fixed));
+        if (fixed.get() > 0) {
+            log.warn("Application counts reconciliation fixed {} rows", fixed.get());
+        }
+        return fixed.get();
+    }
+
+    private void reconcileBatches(AtomicLong fixed) {
+        try {
+            long afterEventId = 0;
+            while (true) {
+                EventApplicationRepository.ReconcileBatchRow batch = reconcileBatch(afterEventId);
+                if (batch == null || batch.getLastEventId() == null) {
+                    break;
+                }
+                fixedCounts.increment(batch.getFixedCounts());
+                fixedSeats.increment(batch.getFixedSeats());
+                fixed.addAndGet(batch.getFixedCounts() + batch.getFixedSeats());
+                afterEventId = batch.getLastEventId();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Application counts reconciliation stopped after {} fixes", fixed.get(), e);
+        }
+    }
+
+    private EventApplicationRepository.ReconcileBatchRow reconcileBatch(long afterEventId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status ->
+                        applicationRepository.reconcileCounts(afterEventId, properties.getBatchSize()));
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= properties.getMaxRetries()) {
+                    throw e;
+                }
+                log.debug("Reconciliation of events after {} conflicted, retrying", afterEventId);
+            }
+        }
+    }
+}
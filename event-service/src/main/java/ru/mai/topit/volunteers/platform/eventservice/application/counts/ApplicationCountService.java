@@ -0,0 +1,55 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.counts;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mai.topit.volunteers.platform.eventservice.domain.EventApplicationStatus;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventApplicationRepository;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * Счётчики заявок для дашборда организатора: числа по статусам для страницы событий одним запросом
+ * к event_application_counts, без COUNT(*) по заявкам.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicationCountService {
+
+    public static final int MAX_EVENTS = 500;
+
+    private final EventApplicationRepository applicationRepository;
+
+    /**
+     * Счётчики для событий в порядке {@code eventIds}; у событий без заявок все числа нулевые.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ApplicationCounts> countsByEvent(Collection<Long> eventIds) {
+        if (eventIds == null || eventIds.isEmpty() || eventIds.size() > MAX_EVENTS) {
+            throw new IllegalArgumentException("Event ids count must be between 1 and " + MAX_EVENTS);
+        }
+        LinkedHashSet<Long> ids = new LinkedHashSet<>(eventIds);
+        Map<Long, Map<EventApplicationStatus, Integer>> byEvent = new HashMap<>();
+        for (EventApplicationRepository.StatusCountRow row : applicationRepository.findStatusCounts(ids.toArray(Long[]::new))) {
+            byEvent.computeIfAbsent(row.getEventId(), id -> new EnumMap<>(EventApplicationStatus.class))
+                    .put(EventApplicationStatus.fromValue(row.getStatus()), row.getCount());
+        }
+
+        Map<Long, ApplicationCounts> result = new LinkedHashMap<>();
+        for (Long eventId : ids) {
+            Map<EventApplicationStatus, Integer> counts = byEvent.get(eventId);
+            result.put(eventId, counts == null ? ApplicationCounts.empty(eventId) : new ApplicationCounts(
+                    eventId,
+                    counts.getOrDefault(EventApplicationStatus.PENDING, 0),
+                    counts.getOrDefault(EventApplicationStatus.APPROVED, 0),
+                    counts.getOrDefault(EventApplicationStatus.REJECTED, 0),
+                    counts.getOrDefault(EventApplicationStatus.CANCELLED, 0)));
+        }
+        return result;
+    }
+}
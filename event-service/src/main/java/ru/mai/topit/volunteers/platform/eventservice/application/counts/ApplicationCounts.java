@@ -0,0 +1,15 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.counts;
+
+/**
+ * Число заявок события по статусам.
+ */
+public record ApplicationCounts(Long eventId, int pending, int approved, int rejected, int cancelled) {
+
+    public static ApplicationCounts empty(Long eventId) {
+        return new ApplicationCounts(eventId, 0, 0, 0, 0);
+    }
+
+    public int total() {
+        return pending + approved + rejected + cancelled;
+    }
+}
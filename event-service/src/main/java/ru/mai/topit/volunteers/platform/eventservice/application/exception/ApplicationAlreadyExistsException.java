@@ -0,0 +1,10 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.exception;
+
+/**
+ * У пользователя уже есть действующая заявка на событие.
+ */
+public class ApplicationAlreadyExistsException extends RuntimeException {
+    public ApplicationAlreadyExistsException(Long eventId, Long userId) {
+        super("User " + userId + " has already applied to event " + eventId);
+    }
+}
@@ -0,0 +1,10 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.exception;
+
+/**
+ * Действие доступно только организатору события.
+ */
+public class EventAccessDeniedException extends RuntimeException {
+    public EventAccessDeniedException(Long eventId, Long userId) {
+        super("User " + userId + " is not the organizer of event " + eventId);
+    }
+}
@@ -0,0 +1,10 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.exception;
+
+/**
+ * Заявка на участие не найдена.
+ */
+public class EventApplicationNotFoundException extends RuntimeException {
+    public EventApplicationNotFoundException(Long applicationId) {
+        super("Application not found: " + applicationId);
+    }
+}
@@ -0,0 +1,10 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.exception;
+
+/**
+ * На событии не осталось свободных мест.
+ */
+public class EventFullException extends RuntimeException {
+    public EventFullException(Long eventId) {
+        super("Event is full, no available slots: " + eventId);
+    }
+}
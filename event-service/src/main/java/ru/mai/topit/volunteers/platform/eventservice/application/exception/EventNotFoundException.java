@@ -0,0 +1,10 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.exception;
+
+/**
+ * Событие не найдено.
+ */
+public class EventNotFoundException extends RuntimeException {
+    public EventNotFoundException(Long eventId) {
+        super("Event not found: " + eventId);
+    }
+}
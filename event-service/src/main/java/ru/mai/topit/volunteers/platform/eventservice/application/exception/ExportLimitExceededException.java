@@ -0,0 +1,10 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.exception;
+
+/**
+ * Уже выполняется максимальное число одновременных выгрузок.
+ */
+public class ExportLimitExceededException extends RuntimeException {
+    public ExportLimitExceededException(int maxConcurrent) {
+        super("Too many concurrent exports, limit is " + maxConcurrent);
+    }
+}
@@ -0,0 +1,10 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.exception;
+
+/**
+ * Ключ идемпотентности уже использован пользователем для заявки на другое событие.
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+    public IdempotencyKeyConflictException(Long eventId, Long userId) {
+        super("Idempotency key of user " + userId + " was already used for another event than " + eventId);
+    }
+}
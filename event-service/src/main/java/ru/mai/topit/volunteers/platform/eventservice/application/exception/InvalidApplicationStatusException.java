@@ -0,0 +1,10 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.exception;
+
+/**
+ * Действие недопустимо для текущего статуса заявки (например, повторное рассмотрение или отмена отменённой).
+ */
+public class InvalidApplicationStatusException extends RuntimeException {
+    public InvalidApplicationStatusException(Long applicationId, String status, String action) {
+        super("Cannot " + action + " application " + applicationId + " in status " + status);
+    }
+}
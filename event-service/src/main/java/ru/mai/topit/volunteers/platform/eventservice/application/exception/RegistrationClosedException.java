@@ -0,0 +1,10 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.exception;
+
+/**
+ * Регистрация на событие закрыта: событие не опубликовано, уже началось или срок регистрации истёк.
+ */
+public class RegistrationClosedException extends RuntimeException {
+    public RegistrationClosedException(Long eventId) {
+        super("Registration is closed for event " + eventId);
+    }
+}
@@ -0,0 +1,220 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.export;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventAccessDeniedException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventNotFoundException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.ExportLimitExceededException;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.ApplicationExportProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventApplicationRepository;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Выгрузка всех заявок на событие в NDJSON или CSV.
+ * <p>
+ * Строки читаются серверным курсором ({@link EventApplicationRepository#streamExportRows}) и сразу пишутся
+ * в ответ, поэтому память не зависит от числа заявок: в куче одновременно не больше одной порции курсора.
+ * Транзакция и соединение держатся до конца выгрузки, поэтому число одновременных выгрузок ограничено
+ * отдельно от общего лимита соединений, а выгрузка, идущая дольше {@code event.export.maxDuration},
+ * обрывается.
+ */
+@Service
+public class ApplicationExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+    private static final String CSV_HEADER =
+            "id,user_id,status,application_date,message,contact_info,reviewed_by,review_date,review_comment";
+
+    private final EventRepository eventRepository;
+    private final EventApplicationRepository applicationRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationExportProperties properties;
+    private final Semaphore exportPermits;
+
+    public ApplicationExportService(EventRepository eventRepository,
+                                    EventApplicationRepository applicationRepository,
+                                    ObjectMapper objectMapper,
+                                    ApplicationExportProperties properties) {
+        this.eventRepository = eventRepository;
+        this.applicationRepository = applicationRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.exportPermits = new Semaphore(properties.getMaxConcurrent());
+    }
+
+    /**
+     * Место среди одновременных выгрузок; освобождается закрытием.
+     */
+    public static final class ExportSlot implements AutoCloseable {
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ExportSlot(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Строка NDJSON; {@code contactInfo} выводится как вложенный JSON.
+     */
+    public record ExportLine(
+            Long id,
+            Long userId,
+            String status,
+            OffsetDateTime applicationDate,
+            String message,
+            @JsonRawValue String contactInfo,
+            Long reviewedBy,
+            OffsetDateTime reviewDate,
+            String reviewComment
+    ) {
+        static ExportLine of(EventApplicationRepository.ApplicationExportRow row) {
+            return new ExportLine(row.getId(), row.getUserId(), row.getStatus(), row.getApplicationDate(),
+                    row.getMessage(), row.getContactInfo(), row.getReviewedBy(), row.getReviewDate(), row.getReviewComment());
+        }
+    }
+
+    /**
+     * Проверить событие и права организатора и занять место среди выгрузок до начала ответа,
+     * чтобы вернуть 404, 403 или 429, а не оборванную выгрузку.
+     */
+    @Transactional(readOnly = true)
+    public ExportSlot openExport(Long eventId, Long requesterId) {
+        Long authorId = eventRepository.findAuthorIdById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        if (!authorId.equals(requesterId)) {
+            throw new EventAccessDeniedException(eventId, requesterId);
+        }
+        if (!exportPermits.tryAcquire()) {
+            throw new ExportLimitExceededException(properties.getMaxConcurrent());
+        }
+        return new ExportSlot(exportPermits);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportApplications(Long eventId, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        Deadline deadline = new Deadline(eventId, properties.getMaxDuration());
+        try (Stream<EventApplicationRepository.ApplicationExportRow> rows = applicationRepository.streamExportRows(eventId)) {
+            if (format == ExportFormat.CSV) {
+                writeCsv(rows.iterator(), writer, deadline);
+            } else {
+                writeNdjson(rows.iterator(), writer, deadline);
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Срок выгрузки; проверяется на каждой порции строк.
+     */
+    private record Deadline(Long eventId, Duration maxDuration, long startNanos) {
+        Deadline(Long eventId, Duration maxDuration) {
+            this(eventId, maxDuration, System.nanoTime());
+        }
+
+        void check() throws InterruptedIOException {
+            if (System.nanoTime() - startNanos > maxDuration.toNanos()) {
+                throw new InterruptedIOException("Export of event " + eventId + " exceeded " + maxDuration);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<EventApplicationRepository.ApplicationExportRow> rows, Writer writer,
+                             Deadline deadline) throws IOException {
+        SequenceWriter lines = objectMapper.writer().withRootValueSeparator("\n").writeValues(writer);
+        int count = 0;
+        while (rows.hasNext()) {
+            lines.write(ExportLine.of(rows.next()));
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                lines.flush();
+                deadline.check();
+            }
+        }
+        lines.flush();
+        if (count > 0) {
+            writer.write('\n');
+        }
+    }
+
+    private static void writeCsv(Iterator<EventApplicationRepository.ApplicationExportRow> rows, Writer writer,
+                                 Deadline deadline) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        int count = 0;
+        while (rows.hasNext()) {
+            EventApplicationRepository.ApplicationExportRow row = rows.next();
+            writer.write(csv(row.getId()));
+            writer.write(',');
+            writer.write(csv(row.getUserId()));
+            writer.write(',');
+            writer.write(csv(row.getStatus()));
+            writer.write(',');
+            writer.write(csv(row.getApplicationDate()));
+            writer.write(',');
+            writer.write(csvText(row.getMessage()));
+            writer.write(',');
+            writer.write(csvText(row.getContactInfo()));
+            writer.write(',');
+            writer.write(csv(row.getReviewedBy()));
+            writer.write(',');
+            writer.write(csv(row.getReviewDate()));
+            writer.write(',');
+            writer.write(csvText(row.getReviewComment()));
+            writer.write('\n');
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+                deadline.check();
+            }
+        }
+    }
+
+    /**
+     * Поле, введённое пользователем. Значение, начинающееся с {@code = + - @}, табуляции или перевода строки,
+     * табличный редактор выполнит как формулу, поэтому перед ним ставится апостроф.
+     */
+    static String csvText(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        if ("=+-@\t\r".indexOf(value.charAt(0)) < 0) {
+            return csv(value);
+        }
+        return '"' + ("'" + value).replace("\"", "\"\"") + '"';
+    }
+
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
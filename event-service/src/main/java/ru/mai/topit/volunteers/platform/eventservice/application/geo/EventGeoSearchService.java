@@ -0,0 +1,68 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.geo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mai.topit.volunteers.platform.eventservice.application.card.EventCard;
+import ru.mai.topit.volunteers.platform.eventservice.application.card.EventCardMapper;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Поиск опубликованных событий рядом с точкой: ближайшие первыми, постранично.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventGeoSearchService {
+
+    /**
+     * Максимальный радиус поиска в километрах: больший радиус превращает поиск по индексу в полный просмотр.
+     */
+    public static final double MAX_RADIUS_KM = 500;
+
+    private final EventRepository eventRepository;
+    private final EventCardMapper eventCardMapper;
+
+    /**
+     * Найти опубликованные события в радиусе {@code radiusKm} от точки.
+     * Счётчик общего количества не считается: следующая страница определяется по лишней строке.
+     */
+    @Transactional(readOnly = true)
+    public Slice<NearbyEvent> findNearby(double latitude, double longitude, double radiusKm, Pageable pageable) {
+        validate(latitude, longitude, radiusKm);
+
+        GeoBoundingBox box = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        List<EventRepository.NearbyEventRow> rows = eventRepository.findNearbyPublishedEvents(
+                latitude, longitude, radiusKm,
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude(),
+                pageable.getPageSize() + 1, pageable.getOffset());
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<EventRepository.NearbyEventRow> page = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        Map<Long, EventCard> events = eventCardMapper.loadByIds(page.stream().map(EventRepository.NearbyEventRow::getId).toList());
+
+        List<NearbyEvent> content = page.stream()
+                .filter(row -> events.containsKey(row.getId()))
+                .map(row -> new NearbyEvent(events.get(row.getId()), row.getDistanceKm()))
+                .toList();
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private static void validate(double latitude, double longitude, double radiusKm) {
+        if (latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90");
+        }
+        if (longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("Radius must be between 0 and " + MAX_RADIUS_KM + " km");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.geo;
+
+/**
+ * Прямоугольник координат, описанный вокруг круга заданного радиуса.
+ * Используется как грубый фильтр по индексу перед точным расчётом расстояния.
+ */
+public record GeoBoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+    private static final double KM_PER_DEGREE_LATITUDE = 111.045;
+
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusKm) {
+        double deltaLatitude = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double minLatitude = Math.max(-90, latitude - deltaLatitude);
+        double maxLatitude = Math.min(90, latitude + deltaLatitude);
+
+        // У полюсов и при переходе через 180-й меридиан берём все долготы: прямоугольник остаётся надмножеством круга
+        if (minLatitude <= -90 || maxLatitude >= 90) {
+            return new GeoBoundingBox(minLatitude, maxLatitude, -180, 180);
+        }
+        double deltaLongitude = deltaLatitude / Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        double minLongitude = longitude - deltaLongitude;
+        double maxLongitude = longitude + deltaLongitude;
+        if (minLongitude < -180 || maxLongitude > 180) {
+            return new GeoBoundingBox(minLatitude, maxLatitude, -180, 180);
+        }
+        return new GeoBoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+}
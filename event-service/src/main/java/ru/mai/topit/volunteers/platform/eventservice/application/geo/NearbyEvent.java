@@ -0,0 +1,9 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.geo;
+
+import ru.mai.topit.volunteers.platform.eventservice.application.card.EventCard;
+
+/**
+ * Событие вместе с расстоянием до точки поиска в километрах.
+ */
+public record NearbyEvent(EventCard event, double distanceKm) {
+}
@@ -0,0 +1,80 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.lifecycle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.EventArchiveProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.redis.RedisLease;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Переносит завершённые и отменённые события старше {@code event.archive.retention} в архивные таблицы.
+ * <p>
+ * В events остаются опубликованные, черновые и недавно закончившиеся события, поэтому таблица
+ * и её индексы не растут с историей. Пачка — один запрос в своей транзакции
+ * ({@link EventRepository#archiveFinishedEvents}), прогон выполняет узел, взявший аренду в Redis;
+ * если Redis недоступен, прогон пропускается.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "event.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EventArchiveJob {
+
+    private final EventRepository eventRepository;
+    private final RedisLease lease;
+    private final EventArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedEvents;
+
+    public EventArchiveJob(EventRepository eventRepository,
+                           RedisLease lease,
+                           EventArchiveProperties properties,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.lease = lease;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archivedEvents = Counter.builder("event.archive.moved").register(meterRegistry);
+    }
+
+    /**
+     * Перенести старые события в архив.
+     *
+     * @return число перенесённых за прогон событий
+     */
+    @Scheduled(fixedDelayString = "${event.archive.intervalMillis:3600000}")
+    public int archiveFinishedEvents() {
+        AtomicInteger total = new AtomicInteger();
+        lease.runLeased(properties.getLeaseKey(), properties.getLeaseTtl(), () -> archiveBatches(total));
+        if (total.get() > 0) {
+            log.info("Archived {} finished events", total.get());
+        }
+        return total.get();
+    }
+
+    private void archiveBatches(AtomicInteger total) {
+        OffsetDateTime before = OffsetDateTime.now().minus(properties.getRetention());
+        int batchSize = properties.getBatchSize();
+        try {
+            int moved;
+            int batches = 0;
+            do {
+                moved = transactionTemplate.execute(status -> eventRepository.archiveFinishedEvents(before, batchSize));
+                archivedEvents.increment(moved);
+                total.addAndGet(moved);
+                batches++;
+            } while (moved == batchSize && batches < properties.getMaxBatchesPerRun());
+        } catch (RuntimeException e) {
+            log.warn("Event archive run stopped after {} archived events", total.get(), e);
+        }
+    }
+}
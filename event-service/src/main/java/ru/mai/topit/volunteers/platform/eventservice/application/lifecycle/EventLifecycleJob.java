@@ -0,0 +1,109 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.lifecycle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.EventLifecycleProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.OutboxProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.redis.RedisLease;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Переводит закончившиеся опубликованные события в completed.
+ * <p>
+ * События обрабатываются пачками по {@code event.lifecycle.batchSize}, каждая пачка — один запрос
+ * в своей транзакции ({@link EventRepository#completeEndedEvents}). Прогон выполняет узел,
+ * взявший аренду в Redis; если Redis недоступен, прогон пропускается до следующего интервала.
+ * <p>
+ * Закрытие регистрации отдельного перехода не требует: запись на событие проверяет
+ * start_date и registration_deadline относительно now() в самом UPDATE ({@link EventRepository#tryReserveSeat}).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "event.lifecycle", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class EventLifecycleJob {
+
+    private final EventRepository eventRepository;
+    private final RedisLease lease;
+    private final EventLifecycleProperties properties;
+    private final OutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final DistributionSummary batchSizes;
+    private final Counter completedEvents;
+    private final Timer completionLag;
+    private final AtomicLong backlogSeconds = new AtomicLong();
+
+    public EventLifecycleJob(EventRepository eventRepository,
+                             RedisLease lease,
+                             EventLifecycleProperties properties,
+                             OutboxProperties outboxProperties,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.lease = lease;
+        this.properties = properties;
+        this.outboxProperties = outboxProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSizes = DistributionSummary.builder("event.lifecycle.batch.size").register(meterRegistry);
+        this.completedEvents = Counter.builder("event.lifecycle.completed").register(meterRegistry);
+        this.completionLag = Timer.builder("event.lifecycle.completion.lag").register(meterRegistry);
+        Gauge.builder("event.lifecycle.backlog.seconds", backlogSeconds, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * Завершить закончившиеся события.
+     *
+     * @return число завершённых за прогон событий
+     */
+    @Scheduled(fixedDelayString = "${event.lifecycle.intervalMillis:60000}")
+    public int completeEndedEvents() {
+        AtomicInteger total = new AtomicInteger();
+        lease.runLeased(properties.getLeaseKey(), properties.getLeaseTtl(), () -> completeBatches(total));
+        if (total.get() > 0) {
+            log.info("Completed {} ended events", total.get());
+        }
+        return total.get();
+    }
+
+    private void completeBatches(AtomicInteger total) {
+        try {
+            int batchSize = properties.getBatchSize();
+            int completed;
+            int batches = 0;
+            do {
+                completed = completeBatch(batchSize);
+                total.addAndGet(completed);
+                batches++;
+            } while (completed == batchSize && batches < properties.getMaxBatchesPerRun());
+            backlogSeconds.set(eventRepository.findCompletionBacklogSeconds());
+        } catch (RuntimeException e) {
+            log.warn("Event lifecycle run stopped after {} completed events", total.get(), e);
+        }
+    }
+
+    private int completeBatch(int batchSize) {
+        List<EventRepository.CompletedEventRow> rows = transactionTemplate.execute(status ->
+                eventRepository.completeEndedEvents(batchSize, outboxProperties.getTopics().getEvents()));
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+        batchSizes.record(rows.size());
+        completedEvents.increment(rows.size());
+        rows.forEach(row -> completionLag.record(Duration.ofSeconds(Math.max(0, row.getLagSeconds()))));
+        return rows.size();
+    }
+}
@@ -0,0 +1,68 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mai.topit.volunteers.platform.eventservice.domain.OutboxMessage;
+import ru.mai.topit.volunteers.platform.eventservice.domain.event.ApplicationStatusChanged;
+import ru.mai.topit.volunteers.platform.eventservice.domain.event.EventStatusChanged;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.OutboxProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.OutboxMessageRepository;
+
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+
+/**
+ * Записывает доменные события сущностей в outbox в той же транзакции, что и изменение.
+ * Сообщение попадает в Kafka только если транзакция зафиксирована, и не теряется при сбое после коммита.
+ * Ключ сообщения — id события: изменения события и его заявок уходят в одну партицию по порядку.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    static final String EVENT_AGGREGATE = "event";
+    static final String APPLICATION_AGGREGATE = "event_application";
+
+    private final OutboxMessageRepository outboxRepository;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(EventStatusChanged change) {
+        append(EVENT_AGGREGATE, change.eventId(), change.eventId(),
+                properties.getTopics().getEvents(), change);
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void on(ApplicationStatusChanged change) {
+        append(APPLICATION_AGGREGATE, change.applicationId(), change.eventId(),
+                properties.getTopics().getApplications(), change);
+    }
+
+    private void append(String aggregateType, Long aggregateId, Long eventId, String topic, Object change) {
+        outboxRepository.save(OutboxMessage.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .partitionKey(String.valueOf(eventId))
+                .eventType(change.getClass().getSimpleName())
+                .topic(topic)
+                .payload(toJson(change))
+                .createdAt(OffsetDateTime.now())
+                .build());
+    }
+
+    private String toJson(Object change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
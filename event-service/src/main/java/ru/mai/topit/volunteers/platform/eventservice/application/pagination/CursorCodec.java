@@ -0,0 +1,75 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Кодирование позиции keyset-пагинации в непрозрачный токен.
+ * Клиент не должен разбирать курсор: формат может меняться вместе с порядком сортировки.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... parts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(parts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Разобрать курсор на части; первая часть — вид курсора.
+     *
+     * @throws IllegalArgumentException если курсор повреждён
+     */
+    public static String[] decode(String cursor, int parts) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        String[] values = raw.split("\\|", -1);
+        if (values.length != parts) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return values;
+    }
+
+    /**
+     * Разобрать курсор и проверить, что он создан для запроса вида {@code kind}.
+     *
+     * @throws IllegalArgumentException если курсор повреждён или создан для другого запроса
+     */
+    public static String[] decode(String cursor, String kind, int parts) {
+        String[] values = decode(cursor, parts);
+        if (!kind.equals(values[0])) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return values;
+    }
+
+    public static long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static float parseFloat(String value) {
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
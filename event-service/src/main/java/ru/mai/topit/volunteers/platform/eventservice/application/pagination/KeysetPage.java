@@ -0,0 +1,53 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.pagination;
+
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Страница при курсорной (keyset) пагинации.
+ * {@code nextCursor} — непрозрачный токен следующей страницы, {@code null} на последней странице.
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+
+    /**
+     * Собрать страницу из выборки размером {@code size + 1}: лишняя строка означает, что есть следующая страница,
+     * курсор строится по последнему элементу страницы.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new KeysetPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+
+    /**
+     * Лимит выборки для страницы размером {@code size}: на одну строку больше,
+     * чтобы понять, есть ли следующая страница.
+     */
+    public static Limit fetchLimit(int size) {
+        return Limit.of(fetchSize(size));
+    }
+
+    /**
+     * То же, что {@link #fetchLimit(int)}, для native-запросов с параметром LIMIT.
+     */
+    public static int fetchSize(int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size + 1;
+    }
+}
@@ -0,0 +1,41 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.pagination;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Позиция keyset-пагинации для сортировки по (время, id).
+ */
+public record TimeKeyset(OffsetDateTime time, long id) {
+
+    /**
+     * Начальная позиция для сортировки по возрастанию: раньше любой реальной даты.
+     */
+    public static final TimeKeyset ASC_START = new TimeKeyset(OffsetDateTime.parse("1970-01-01T00:00:00Z"), 0);
+
+    /**
+     * Начальная позиция для сортировки по убыванию: позже любой реальной даты.
+     */
+    public static final TimeKeyset DESC_START = new TimeKeyset(OffsetDateTime.parse("9999-12-31T00:00:00Z"), Long.MAX_VALUE);
+
+    public String encode(String kind) {
+        return CursorCodec.encode(kind, time.toInstant(), id);
+    }
+
+    /**
+     * Разобрать курсор вида {@code kind}; без курсора — начальная позиция {@code start}.
+     */
+    public static TimeKeyset decode(String cursor, String kind, TimeKeyset start) {
+        if (cursor == null || cursor.isBlank()) {
+            return start;
+        }
+        String[] parts = CursorCodec.decode(cursor, kind, 3);
+        try {
+            return new TimeKeyset(Instant.parse(parts[1]).atOffset(ZoneOffset.UTC), CursorCodec.parseLong(parts[2]));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.search;
+
+import ru.mai.topit.volunteers.platform.eventservice.application.card.EventCard;
+
+/**
+ * Найденное событие, его релевантность и признак нечёткого (триграммного) совпадения.
+ */
+public record EventSearchHit(EventCard event, float score, boolean fuzzy) {
+}
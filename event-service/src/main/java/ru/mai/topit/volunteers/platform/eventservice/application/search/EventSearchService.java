@@ -0,0 +1,82 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mai.topit.volunteers.platform.eventservice.application.card.EventCard;
+import ru.mai.topit.volunteers.platform.eventservice.application.card.EventCardMapper;
+import ru.mai.topit.volunteers.platform.eventservice.application.pagination.CursorCodec;
+import ru.mai.topit.volunteers.platform.eventservice.application.pagination.KeysetPage;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Поиск опубликованных событий.
+ * Сначала полнотекстовый поиск по search_vector; если он ничего не нашёл, поиск по похожести названия.
+ * Режим поиска сохраняется в курсоре, поэтому все страницы одного запроса идут из одного источника.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventSearchService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_QUERY_LENGTH = 200;
+
+    private static final String FULL_TEXT = "fts";
+    private static final String FUZZY = "trgm";
+
+    private final EventRepository eventRepository;
+    private final EventCardMapper eventCardMapper;
+
+    @Transactional(readOnly = true)
+    public KeysetPage<EventSearchHit> search(String query, String cursor, int size) {
+        String normalized = validate(query, size);
+
+        KeysetPage<EventRepository.SearchHitRow> rows;
+        boolean fuzzy;
+        if (cursor == null) {
+            rows = fetch(FULL_TEXT, normalized, Float.MAX_VALUE, 0, size);
+            fuzzy = rows.items().isEmpty();
+            if (fuzzy) {
+                rows = fetch(FUZZY, normalized, Float.MAX_VALUE, 0, size);
+            }
+        } else {
+            String[] parts = CursorCodec.decode(cursor, 3);
+            if (!FULL_TEXT.equals(parts[0]) && !FUZZY.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            fuzzy = FUZZY.equals(parts[0]);
+            rows = fetch(parts[0], normalized, CursorCodec.parseFloat(parts[1]), CursorCodec.parseLong(parts[2]), size);
+        }
+
+        Map<Long, EventCard> events = eventCardMapper.loadByIds(rows.items().stream().map(EventRepository.SearchHitRow::getId).toList());
+        List<EventSearchHit> hits = rows.items().stream()
+                .filter(row -> events.containsKey(row.getId()))
+                .map(row -> new EventSearchHit(events.get(row.getId()), row.getScore(), fuzzy))
+                .toList();
+        return new KeysetPage<>(hits, rows.nextCursor());
+    }
+
+    private KeysetPage<EventRepository.SearchHitRow> fetch(String mode, String query, float afterScore, long afterId, int size) {
+        List<EventRepository.SearchHitRow> rows = FUZZY.equals(mode)
+                ? eventRepository.searchPublishedEventsFuzzy(query, afterScore, afterId, size + 1)
+                : eventRepository.searchPublishedEventsRanked(query, afterScore, afterId, size + 1);
+        return KeysetPage.of(rows, size, row -> CursorCodec.encode(mode, row.getScore(), row.getId()));
+    }
+
+    private static String validate(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be blank");
+        }
+        String normalized = query.strip();
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query cannot exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,96 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.submission;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.ApplicationAlreadyExistsException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventFullException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventNotFoundException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.IdempotencyKeyConflictException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.RegistrationClosedException;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.OutboxProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventApplicationRepository;
+
+import java.util.Map;
+
+/**
+ * Подача заявки одним запросом к БД.
+ * <p>
+ * Повтор по ключу идемпотентности, проверка действующей заявки, открытой регистрации и свободных мест,
+ * вставка заявки и сообщения в outbox выполняются функцией submit_application в одной транзакции.
+ * Гонка двух подач отсекается уникальными индексами внутри функции и возвращается как результат,
+ * а не как исключение. Повтор запроса с тем же ключом возвращает уже созданную заявку;
+ * тот же ключ с другим событием — {@link SubmissionOutcome#KEY_CONFLICT}.
+ * <p>
+ * id заявки выдаёт DEFAULT nextval в самой функции, поэтому каждая подача расходует блок
+ * последовательности из 50 значений (см. V11). Это осознанная цена одного round trip.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApplicationSubmissionService {
+
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
+    private final EventApplicationRepository applicationRepository;
+    private final OutboxProperties outboxProperties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Подать заявку и занять место на событии.
+     *
+     * @param idempotencyKey ключ повтора запроса; {@code null} — без идемпотентности
+     */
+    @Transactional
+    public SubmissionResult submit(Long eventId, Long userId, String message,
+                                   Map<String, Object> contactInfo, String idempotencyKey) {
+        return submit(eventId, userId, message, contactInfo, idempotencyKey, true);
+    }
+
+    /**
+     * Подать заявку; при {@code claimSeat = false} место не занимается (например, для листа ожидания).
+     */
+    @Transactional
+    public SubmissionResult submit(Long eventId, Long userId, String message,
+                                   Map<String, Object> contactInfo, String idempotencyKey, boolean claimSeat) {
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new IllegalArgumentException("Idempotency key must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        EventApplicationRepository.SubmissionRow row = applicationRepository.submitApplication(
+                eventId, userId, message, toJson(contactInfo), idempotencyKey, claimSeat,
+                outboxProperties.getTopics().getApplications());
+        return new SubmissionResult(SubmissionOutcome.fromValue(row.getOutcome()), row.getApplicationId());
+    }
+
+    /**
+     * Id принятой заявки; для остальных результатов — соответствующее исключение.
+     */
+    public static Long requireAccepted(SubmissionResult result, Long eventId, Long userId) {
+        return switch (result.outcome()) {
+            case CREATED, REPLAYED -> result.applicationId();
+            case KEY_CONFLICT -> throw new IdempotencyKeyConflictException(eventId, userId);
+            case ALREADY_APPLIED -> throw new ApplicationAlreadyExistsException(eventId, userId);
+            case EVENT_NOT_FOUND -> throw new EventNotFoundException(eventId);
+            case REGISTRATION_CLOSED -> throw new RegistrationClosedException(eventId);
+            case EVENT_FULL -> throw new EventFullException(eventId);
+        };
+    }
+
+    private String toJson(Map<String, Object> contactInfo) {
+        if (contactInfo == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(contactInfo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Contact info is not serializable", e);
+        }
+    }
+
+    /**
+     * Результат подачи и id заявки: созданной, повторённой или уже существующей ({@code null}, если заявки нет).
+     */
+    public record SubmissionResult(SubmissionOutcome outcome, Long applicationId) {
+    }
+}
@@ -0,0 +1,40 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.submission;
+
+/**
+ * Результат подачи заявки функцией submit_application.
+ */
+public enum SubmissionOutcome {
+    CREATED("created"),
+    REPLAYED("replayed"),
+    KEY_CONFLICT("key_conflict"),
+    ALREADY_APPLIED("already_applied"),
+    EVENT_NOT_FOUND("event_not_found"),
+    REGISTRATION_CLOSED("registration_closed"),
+    EVENT_FULL("event_full");
+
+    private final String value;
+
+    SubmissionOutcome(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Заявка создана этим или одним из предыдущих запросов с тем же ключом.
+     */
+    public boolean isAccepted() {
+        return this == CREATED || this == REPLAYED;
+    }
+
+    public static SubmissionOutcome fromValue(String value) {
+        for (SubmissionOutcome outcome : SubmissionOutcome.values()) {
+            if (outcome.value.equals(value)) {
+                return outcome;
+            }
+        }
+        throw new IllegalArgumentException("Unknown submission outcome: " + value);
+    }
+}
@@ -0,0 +1,31 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.views;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Записывает приросты просмотров в events одним UPDATE на пачку.
+ * Используется напрямую в режиме {@code staging: local} и при переносе из Redis.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseViewDeltaSink implements ViewDeltaSink {
+
+    private final EventRepository eventRepository;
+
+    @Override
+    public void push(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // Одинаковый порядок id у всех узлов уменьшает вероятность взаимных блокировок
+        Map<Long, Long> sorted = new TreeMap<>(deltas);
+        Long[] ids = sorted.keySet().toArray(Long[]::new);
+        Long[] values = sorted.values().toArray(Long[]::new);
+        eventRepository.addViews(ids, values);
+    }
+}
@@ -0,0 +1,96 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.views;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Счётчик просмотров событий в памяти.
+ * <p>
+ * Просмотр увеличивает {@link LongAdder} события без обращения к БД; раз в
+ * {@code event.views.flushIntervalMillis} и при остановке накопленные приросты
+ * одной пачкой уходят в {@link ViewDeltaSink}. Так горячие строки events
+ * обновляются раз в интервал, а не на каждый просмотр.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventViewCounter {
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // Счётчики, убранные из pending при прошлом переносе; доступ только из drain()
+    private Map<Long, LongAdder> detached = new HashMap<>();
+    private final ViewDeltaSink sink;
+
+    /**
+     * Учесть просмотр события.
+     */
+    public void recordView(Long eventId) {
+        pending.computeIfAbsent(eventId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Просмотры, ещё не переданные в {@link ViewDeltaSink}.
+     */
+    public long pendingViews(Long eventId) {
+        LongAdder adder = pending.get(eventId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${event.views.flushIntervalMillis:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            sink.push(deltas);
+        } catch (RuntimeException e) {
+            // Возвращаем приросты в счётчики, они уйдут со следующей пачкой
+            deltas.forEach((eventId, delta) -> pending.computeIfAbsent(eventId, id -> new LongAdder()).add(delta));
+            log.warn("Failed to flush views for {} events, will retry", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Забрать накопленные приросты.
+     * <p>
+     * Счётчик сначала убирается из карты, и новые просмотры идут уже в новый счётчик. Поток, успевший
+     * получить старый счётчик до удаления, может увеличить его после суммирования, поэтому отсоединённые
+     * счётчики хранятся до следующего переноса и их остаток уходит с ним.
+     */
+    private synchronized Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        detached.forEach((eventId, adder) -> {
+            long late = adder.sum();
+            if (late > 0) {
+                deltas.merge(eventId, late, Long::sum);
+            }
+        });
+        detached = new HashMap<>();
+        for (Long eventId : pending.keySet()) {
+            LongAdder adder = pending.remove(eventId);
+            if (adder == null) {
+                continue;
+            }
+            long delta = adder.sumThenReset();
+            detached.put(eventId, adder);
+            if (delta > 0) {
+                deltas.merge(eventId, delta, Long::sum);
+            }
+        }
+        return deltas;
+    }
+}
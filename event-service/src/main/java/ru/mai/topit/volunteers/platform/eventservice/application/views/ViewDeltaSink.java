@@ -0,0 +1,14 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.views;
+
+import java.util.Map;
+
+/**
+ * Получатель накопленных просмотров: id события → прирост.
+ */
+public interface ViewDeltaSink {
+
+    /**
+     * Записать приросты. При ошибке приросты не применены и могут быть переданы повторно.
+     */
+    void push(Map<Long, Long> deltas);
+}
@@ -20,7 +20,8 @@ import java.time.OffsetDateTime;
 public class Category {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_id_seq")
+    @SequenceGenerator(name = "categories_id_seq", sequenceName = "categories_id_seq", schema = "event_service", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
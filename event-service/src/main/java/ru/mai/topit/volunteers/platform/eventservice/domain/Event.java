@@ -8,13 +8,23 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+import ru.mai.topit.volunteers.platform.eventservice.domain.event.EventStatusChanged;
+import ru.mai.topit.volunteers.platform.eventservice.domain.event.StatusTransition;
 import ru.mai.topit.volunteers.platform.eventservice.domain.vo.EventSchedule;
 import ru.mai.topit.volunteers.platform.eventservice.domain.vo.Location;
 import ru.mai.topit.volunteers.platform.eventservice.domain.vo.ParticipantLimits;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 
 @Data
 @Builder
@@ -25,7 +35,8 @@ import java.util.List;
 public class Event {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_id_seq")
+    @SequenceGenerator(name = "events_id_seq", sequenceName = "events_id_seq", schema = "event_service", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -69,16 +80,16 @@ public class Event {
     private Long authorId;
 
     @ColumnDefault("0")
-    @Column(name = "views_count", nullable = false)
+    @Column(name = "views_count", nullable = false, updatable = false)
     private Long viewsCount;
 
     @ColumnDefault("false")
     @Column(name = "is_featured", nullable = false)
     private Boolean isFeatured;
 
-    @ElementCollection
-    @CollectionTable(name = "event_tags", schema = "event_service", joinColumns = @JoinColumn(name = "event_id"))
-    @Column(name = "tag")
+    @ColumnDefault("'{}'")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tags", nullable = false, columnDefinition = "text[]")
     private List<String> tags;
 
     @ColumnDefault("now()")
@@ -104,10 +115,13 @@ public class Event {
     @Embedded
     @AttributeOverrides({
         @AttributeOverride(name = "maxParticipants", column = @Column(name = "max_participants")),
-        @AttributeOverride(name = "currentParticipants", column = @Column(name = "current_participants", nullable = false))
+        @AttributeOverride(name = "currentParticipants", column = @Column(name = "current_participants", nullable = false, updatable = false))
     })
     private ParticipantLimits participantLimits;
 
+    @ToString.Exclude
+    private final transient List<StatusTransition> statusTransitions = new ArrayList<>();
+
     @Embedded
     @AttributeOverrides({
         @AttributeOverride(name = "startDate", column = @Column(name = "start_date", nullable = false)),
@@ -149,6 +163,7 @@ public class Event {
                         .build())
                 .viewsCount(0L)
                 .isFeatured(false)
+                .tags(List.of())
                 .createdAt(OffsetDateTime.now())
                 .updatedAt(OffsetDateTime.now())
                 .build();
@@ -156,22 +171,40 @@ public class Event {
 
     public void publish() {
         if (EventStatus.DRAFT.getValue().equals(this.status)) {
-            this.status = EventStatus.PUBLISHED.getValue();
+            changeStatus(EventStatus.PUBLISHED);
             this.publishedAt = OffsetDateTime.now();
-            this.updatedAt = OffsetDateTime.now();
         }
     }
 
     public void cancel() {
         if (!EventStatus.COMPLETED.getValue().equals(this.status)) {
-            this.status = EventStatus.CANCELLED.getValue();
-            this.updatedAt = OffsetDateTime.now();
+            changeStatus(EventStatus.CANCELLED);
         }
     }
 
     public void complete() {
-        this.status = EventStatus.COMPLETED.getValue();
-        this.updatedAt = OffsetDateTime.now();
+        changeStatus(EventStatus.COMPLETED);
+    }
+
+    private void changeStatus(EventStatus status) {
+        OffsetDateTime now = OffsetDateTime.now();
+        if (!status.getValue().equals(this.status)) {
+            statusTransitions.add(new StatusTransition(this.status, status.getValue(), now));
+        }
+        this.status = status.getValue();
+        this.updatedAt = now;
+    }
+
+    @DomainEvents
+    Collection<Object> domainEvents() {
+        return statusTransitions.stream()
+                .<Object>map(transition -> new EventStatusChanged(id, transition.from(), transition.to(), transition.at()))
+                .toList();
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        statusTransitions.clear();
     }
 
     public boolean canRegister() {
@@ -179,6 +212,11 @@ public class Event {
                EventStatus.PUBLISHED.getValue().equals(this.status);
     }
 
+    /**
+     * @deprecated меняет только копию в памяти: current_participants не обновляется через сущность,
+     * места занимаются атомарно в {@code SeatReservationService}.
+     */
+    @Deprecated
     public void incrementParticipantCount() {
         if (!participantLimits.hasAvailableSlots()) {
             throw new IllegalStateException("Event is full, no available slots");
@@ -187,6 +225,10 @@ public class Event {
         this.updatedAt = OffsetDateTime.now();
     }
 
+    /**
+     * @deprecated см. {@link #incrementParticipantCount()}.
+     */
+    @Deprecated
     public void decrementParticipantCount() {
         this.participantLimits = this.participantLimits.decrementParticipants();
         this.updatedAt = OffsetDateTime.now();
@@ -229,4 +271,20 @@ public class Event {
                 .build();
         this.updatedAt = OffsetDateTime.now();
     }
-}
\ No newline at end of file
+
+    public void updateTags(Collection<String> tags) {
+        this.tags = normalizeTags(tags);
+        this.updatedAt = OffsetDateTime.now();
+    }
+
+    public static List<String> normalizeTags(Collection<String> tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        return tags.stream()
+                .filter(tag -> tag != null && !tag.isBlank())
+                .map(tag -> tag.strip().toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+    }
+}
@@ -6,11 +6,19 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+import ru.mai.topit.volunteers.platform.eventservice.domain.event.ApplicationStatusChanged;
+import ru.mai.topit.volunteers.platform.eventservice.domain.event.StatusTransition;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -22,7 +30,8 @@ import java.util.Map;
 public class EventApplication {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_applications_id_seq")
+    @SequenceGenerator(name = "event_applications_id_seq", sequenceName = "event_applications_id_seq", schema = "event_service", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -39,6 +48,10 @@ public class EventApplication {
     @Column(name = "status", nullable = false, length = 20)
     private String status;
 
+    @ColumnDefault("false")
+    @Column(name = "seat_reserved", nullable = false)
+    private Boolean seatReserved;
+
     @ColumnDefault("now()")
     @Column(name = "application_date", nullable = false)
     private OffsetDateTime applicationDate;
@@ -59,6 +72,9 @@ public class EventApplication {
     @Column(name = "review_comment", columnDefinition = "TEXT")
     private String reviewComment;
 
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
     @ColumnDefault("now()")
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
@@ -67,6 +83,9 @@ public class EventApplication {
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
+    @ToString.Exclude
+    private final transient List<StatusTransition> statusTransitions = new ArrayList<>();
+
     public static EventApplication apply(Event event, Long userId) {
         if (event == null) {
             throw new IllegalArgumentException("Event cannot be null");
@@ -78,14 +97,17 @@ public class EventApplication {
             throw new IllegalStateException("Cannot apply to this event: event is not available for registration");
         }
 
-        return EventApplication.builder()
+        EventApplication application = EventApplication.builder()
                 .event(event)
                 .userId(userId)
                 .status(EventApplicationStatus.PENDING.getValue())
+                .seatReserved(false)
                 .applicationDate(OffsetDateTime.now())
                 .createdAt(OffsetDateTime.now())
                 .updatedAt(OffsetDateTime.now())
                 .build();
+        application.statusTransitions.add(new StatusTransition(null, application.status, application.createdAt));
+        return application;
     }
 
     public void approve(Long reviewerId) {
@@ -95,10 +117,9 @@ public class EventApplication {
         if (!EventApplicationStatus.PENDING.getValue().equals(this.status)) {
             throw new IllegalStateException("Only pending applications can be approved");
         }
-        this.status = EventApplicationStatus.APPROVED.getValue();
+        changeStatus(EventApplicationStatus.APPROVED);
         this.reviewedBy = reviewerId;
-        this.reviewDate = OffsetDateTime.now();
-        this.updatedAt = OffsetDateTime.now();
+        this.reviewDate = this.updatedAt;
     }
 
     public void reject(Long reviewerId, String comment) {
@@ -108,19 +129,52 @@ public class EventApplication {
         if (!EventApplicationStatus.PENDING.getValue().equals(this.status)) {
             throw new IllegalStateException("Only pending applications can be rejected");
         }
-        this.status = EventApplicationStatus.REJECTED.getValue();
+        changeStatus(EventApplicationStatus.REJECTED);
         this.reviewedBy = reviewerId;
-        this.reviewDate = OffsetDateTime.now();
+        this.reviewDate = this.updatedAt;
         this.reviewComment = comment;
-        this.updatedAt = OffsetDateTime.now();
     }
 
     public void cancel() {
         if (EventApplicationStatus.CANCELLED.getValue().equals(this.status)) {
             throw new IllegalStateException("Application is already cancelled");
         }
-        this.status = EventApplicationStatus.CANCELLED.getValue();
-        this.updatedAt = OffsetDateTime.now();
+        changeStatus(EventApplicationStatus.CANCELLED);
+    }
+
+    private void changeStatus(EventApplicationStatus status) {
+        OffsetDateTime now = OffsetDateTime.now();
+        statusTransitions.add(new StatusTransition(this.status, status.getValue(), now));
+        this.status = status.getValue();
+        this.updatedAt = now;
+    }
+
+    @DomainEvents
+    Collection<Object> domainEvents() {
+        Long eventId = event != null ? event.getId() : null;
+        return statusTransitions.stream()
+                .<Object>map(transition -> new ApplicationStatusChanged(
+                        id, eventId, userId, transition.from(), transition.to(), transition.at()))
+                .toList();
+    }
+
+    @AfterDomainEventPublication
+    void clearDomainEvents() {
+        statusTransitions.clear();
+    }
+
+    public void markSeatReserved() {
+        this.seatReserved = true;
+    }
+
+    public boolean hasSeatReserved() {
+        return Boolean.TRUE.equals(this.seatReserved);
+    }
+
+    public boolean releaseSeat() {
+        boolean reserved = Boolean.TRUE.equals(this.seatReserved);
+        this.seatReserved = false;
+        return reserved;
     }
 
     public boolean isPending() {
@@ -130,4 +184,8 @@ public class EventApplication {
     public boolean isApproved() {
         return EventApplicationStatus.APPROVED.getValue().equals(this.status);
     }
+
+    public boolean isCancelled() {
+        return EventApplicationStatus.CANCELLED.getValue().equals(this.status);
+    }
 }
\ No newline at end of file
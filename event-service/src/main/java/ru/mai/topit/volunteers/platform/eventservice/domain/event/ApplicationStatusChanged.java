@@ -0,0 +1,16 @@
+package ru.mai.topit.volunteers.platform.eventservice.domain.event;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Статус заявки изменился; {@code previousStatus} равен {@code null} для новой заявки.
+ */
+public record ApplicationStatusChanged(
+        Long applicationId,
+        Long eventId,
+        Long userId,
+        String previousStatus,
+        String status,
+        OffsetDateTime occurredAt
+) {
+}
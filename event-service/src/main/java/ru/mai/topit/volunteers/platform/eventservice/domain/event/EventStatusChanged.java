@@ -0,0 +1,14 @@
+package ru.mai.topit.volunteers.platform.eventservice.domain.event;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Статус события изменился.
+ */
+public record EventStatusChanged(
+        Long eventId,
+        String previousStatus,
+        String status,
+        OffsetDateTime occurredAt
+) {
+}
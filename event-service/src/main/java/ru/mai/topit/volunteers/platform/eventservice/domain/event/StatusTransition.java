@@ -0,0 +1,10 @@
+package ru.mai.topit.volunteers.platform.eventservice.domain.event;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Переход статуса сущности, ещё не опубликованный как доменное событие.
+ * Доменное событие собирается при сохранении, когда у новой сущности уже есть id.
+ */
+public record StatusTransition(String from, String to, OffsetDateTime at) {
+}
@@ -0,0 +1,24 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Параметры сверки счётчиков заявок и занятых мест с самими заявками.
+ */
+@Component
+@ConfigurationProperties(prefix = "application.counts")
+@Getter
+@Setter
+public class ApplicationCountProperties {
+    private boolean reconcileEnabled = true;
+    private long reconcileIntervalMillis = 900000;
+    private int batchSize = 1000;
+    private int maxRetries = 3;
+    private String leaseKey = "application:counts:lease";
+    private Duration leaseTtl = Duration.ofMinutes(15);
+}
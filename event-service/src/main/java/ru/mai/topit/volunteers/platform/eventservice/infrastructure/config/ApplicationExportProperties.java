@@ -0,0 +1,23 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Параметры выгрузки заявок.
+ * Выгрузка держит соединение из общего лимита {@code db.admission.maxConcurrent} до конца ответа,
+ * поэтому {@code maxConcurrent} должен оставлять большую часть лимита обычным запросам,
+ * а {@code maxDuration} ограничивает, как долго одна выгрузка его занимает.
+ */
+@Component
+@ConfigurationProperties(prefix = "event.export")
+@Getter
+@Setter
+public class ApplicationExportProperties {
+    private int maxConcurrent = 2;
+    private Duration maxDuration = Duration.ofMinutes(10);
+}
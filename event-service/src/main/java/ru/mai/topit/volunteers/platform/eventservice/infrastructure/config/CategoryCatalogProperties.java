@@ -0,0 +1,20 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Параметры каталога категорий в памяти.
+ * {@code refreshIntervalMillis} — страховочное перечитывание на случай потерянного сообщения
+ * или правки таблицы в обход сервиса.
+ */
+@Component
+@ConfigurationProperties(prefix = "category.catalog")
+@Getter
+@Setter
+public class CategoryCatalogProperties {
+    private long refreshIntervalMillis = 300000;
+    private String channel = "event:categories:changed";
+}
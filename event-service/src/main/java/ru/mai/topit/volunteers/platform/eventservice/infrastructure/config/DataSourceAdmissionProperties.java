@@ -0,0 +1,20 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Параметры ограничения доступа к пулу соединений в режиме виртуальных потоков.
+ * {@code maxConcurrent} не должен превышать размер пула Hikari: лишние потоки ждут
+ * в очереди семафора, а не внутри пула.
+ */
+@Component
+@ConfigurationProperties(prefix = "db.admission")
+@Getter
+@Setter
+public class DataSourceAdmissionProperties {
+    private int maxConcurrent = 10;
+    private long acquireTimeoutMillis = 5000;
+}
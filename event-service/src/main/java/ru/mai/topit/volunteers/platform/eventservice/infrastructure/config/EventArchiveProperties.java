@@ -0,0 +1,26 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Параметры переноса старых событий в архивные таблицы.
+ * {@code retention} — сколько завершённое или отменённое событие остаётся в events после end_date.
+ */
+@Component
+@ConfigurationProperties(prefix = "event.archive")
+@Getter
+@Setter
+public class EventArchiveProperties {
+    private boolean enabled = true;
+    private long intervalMillis = 3600000;
+    private Duration retention = Duration.ofDays(180);
+    private int batchSize = 500;
+    private int maxBatchesPerRun = 200;
+    private String leaseKey = "event:archive:lease";
+    private Duration leaseTtl = Duration.ofMinutes(30);
+}
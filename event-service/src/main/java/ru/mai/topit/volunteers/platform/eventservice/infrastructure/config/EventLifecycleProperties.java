@@ -0,0 +1,25 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Параметры фонового завершения прошедших событий.
+ * {@code leaseTtl} должен быть больше времени одного прогона: по его истечении прогон может начать другой узел.
+ */
+@Component
+@ConfigurationProperties(prefix = "event.lifecycle")
+@Getter
+@Setter
+public class EventLifecycleProperties {
+    private boolean enabled = true;
+    private long intervalMillis = 60000;
+    private int batchSize = 500;
+    private int maxBatchesPerRun = 100;
+    private String leaseKey = "event:lifecycle:lease";
+    private Duration leaseTtl = Duration.ofMinutes(5);
+}
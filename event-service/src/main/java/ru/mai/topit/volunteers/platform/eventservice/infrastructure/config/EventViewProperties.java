@@ -0,0 +1,31 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Параметры буферизации просмотров событий.
+ * При {@code staging: local} каждый узел сам пишет накопленные просмотры в БД,
+ * при {@code staging: redis} узлы складывают их в общий hash Redis, откуда они переносятся в БД.
+ */
+@Component
+@ConfigurationProperties(prefix = "event.views")
+@Getter
+@Setter
+public class EventViewProperties {
+    private Staging staging = Staging.LOCAL;
+    private long flushIntervalMillis = 5000;
+    private long redisDrainIntervalMillis = 10000;
+    private String redisKey = "event:views:pending";
+    private String redisDrainLeaseKey = "event:views:drain-lease";
+    private Duration redisDrainLeaseTtl = Duration.ofMinutes(1);
+
+    public enum Staging {
+        LOCAL,
+        REDIS
+    }
+}
@@ -0,0 +1,35 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Параметры transactional outbox и его отправки в Kafka.
+ * Размер пачки и задержка накопления на стороне продюсера задаются
+ * в {@code spring.kafka.producer} ({@code batch-size}, {@code linger.ms}).
+ */
+@Component
+@ConfigurationProperties(prefix = "outbox")
+@Getter
+@Setter
+public class OutboxProperties {
+    private boolean relayEnabled = true;
+    private int batchSize = 200;
+    private long pollIntervalMillis = 500;
+    private long sendTimeoutMillis = 10000;
+    private Duration retention = Duration.ofDays(7);
+    private int purgeBatchSize = 5000;
+    private long purgeIntervalMillis = 3600000;
+    private Topics topics = new Topics();
+
+    @Getter
+    @Setter
+    public static class Topics {
+        private String events = "event-service.events";
+        private String applications = "event-service.applications";
+    }
+}
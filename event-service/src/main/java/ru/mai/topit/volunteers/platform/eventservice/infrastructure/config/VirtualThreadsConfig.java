@@ -0,0 +1,35 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Настройки режима виртуальных потоков.
+ * Tomcat, {@code @Async} и {@code @Scheduled} переключаются на виртуальные потоки самим Spring Boot
+ * по {@code spring.threads.virtual.enabled}; здесь источник данных оборачивается
+ * в {@link AdmissionControlDataSource}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceAdmissionPostProcessor(ObjectProvider<DataSourceAdmissionProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionControlDataSource)) {
+                    DataSourceAdmissionProperties admission = properties.getObject();
+                    return new AdmissionControlDataSource(dataSource, admission.getMaxConcurrent(), admission.getAcquireTimeoutMillis());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.mai.topit.volunteers.platform.eventservice.domain.OutboxMessage;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.OutboxProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.OutboxMessageRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Переносит сообщения outbox в Kafka пачками.
+ * <p>
+ * Пачка читается под транзакционной advisory-блокировкой, поэтому отправляет один узел.
+ * Сообщения упорядочены по id записавшей их транзакции, а внутри транзакции — по id строки; сообщение
+ * становится доступно, только когда завершены все транзакции, начавшие запись раньше
+ * ({@link OutboxMessageRepository#findUnpublished}). Гарантия — порядок id транзакций; с порядком коммитов
+ * по одному событию он совпадает, когда первая запись транзакции — изменение или блокировка строки события
+ * (id транзакции выдаётся при первой записи, а строку события транзакции получают по очереди).
+ * Ключ Kafka — id события, поэтому получатели одного события видят сообщения в этом же порядке.
+ * Все сообщения пачки уходят в продюсер сразу (он сам собирает их в батчи по {@code linger.ms}),
+ * затем ожидается подтверждение каждого, и только после этого пачка отмечается отправленной.
+ * Если брокер не подтвердил хотя бы одно сообщение, транзакция откатывается и пачка уйдёт снова:
+ * доставка at-least-once, получатели отбрасывают повторы по заголовку {@value #OUTBOX_ID_HEADER}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox", name = "relayEnabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    static final long RELAY_LOCK_KEY = 0x6f7574626f78L;
+    static final String OUTBOX_ID_HEADER = "outbox-id";
+    static final String EVENT_TYPE_HEADER = "event-type";
+
+    private final OutboxMessageRepository outboxRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxRelay(OutboxMessageRepository outboxRepository,
+                       KafkaTemplate<String, String> kafkaTemplate,
+                       OutboxProperties properties,
+                       PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Отправить накопившиеся сообщения; полные пачки отправляются подряд до опустошения очереди.
+     *
+     * @return число отправленных сообщений
+     */
+    @Scheduled(fixedDelayString = "${outbox.pollIntervalMillis:500}")
+    public int relay() {
+        int total = 0;
+        try {
+            int sent;
+            do {
+                sent = transactionTemplate.execute(status -> relayBatch());
+                total += sent;
+            } while (sent == properties.getBatchSize());
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay stopped after {} messages, the rest will be retried", total, e);
+        }
+        return total;
+    }
+
+    /**
+     * Удалить опубликованные сообщения старше {@code outbox.retention}.
+     */
+    @Scheduled(fixedDelayString = "${outbox.purgeIntervalMillis:3600000}")
+    public void purge() {
+        OffsetDateTime before = OffsetDateTime.now().minus(properties.getRetention());
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    outboxRepository.deletePublishedBefore(before, properties.getPurgeBatchSize()));
+        } while (deleted == properties.getPurgeBatchSize());
+    }
+
+    private int relayBatch() {
+        if (!outboxRepository.tryLock(RELAY_LOCK_KEY)) {
+            return 0;
+        }
+        List<OutboxMessage> batch = outboxRepository.findUnpublished(properties.getBatchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<SendResult<String, String>>> acks = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            acks.add(kafkaTemplate.send(toRecord(message)));
+        }
+        awaitAcks(acks);
+        Long[] ids = batch.stream().map(OutboxMessage::getId).toArray(Long[]::new);
+        outboxRepository.markPublished(ids, OffsetDateTime.now());
+        return batch.size();
+    }
+
+    private void awaitAcks(List<CompletableFuture<SendResult<String, String>>> acks) {
+        try {
+            CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new))
+                    .get(properties.getSendTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OutboxRelayException("Interrupted while waiting for broker acks", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new OutboxRelayException("Broker did not acknowledge outbox batch", e);
+        }
+    }
+
+    private static ProducerRecord<String, String> toRecord(OutboxMessage message) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(
+                message.getTopic(), message.getPartitionKey(), message.getPayload());
+        record.headers()
+                .add(OUTBOX_ID_HEADER, String.valueOf(message.getId()).getBytes(StandardCharsets.UTF_8))
+                .add(EVENT_TYPE_HEADER, message.getEventType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
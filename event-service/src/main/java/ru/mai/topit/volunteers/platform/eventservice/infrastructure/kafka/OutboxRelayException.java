@@ -0,0 +1,11 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.kafka;
+
+/**
+ * Пачка outbox не подтверждена брокером; транзакция отправки откатывается,
+ * сообщения остаются неотправленными и уйдут повторно.
+ */
+public class OutboxRelayException extends RuntimeException {
+    public OutboxRelayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,43 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.CategoryCatalogProperties;
+
+import java.util.UUID;
+
+/**
+ * Оповещает остальные узлы об изменении категорий через Redis pub/sub.
+ * Сообщение — id узла-отправителя, чтобы узел не обрабатывал собственные оповещения.
+ */
+@Slf4j
+@Component
+public class CategoryCatalogNotifier {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+
+    public CategoryCatalogNotifier(StringRedisTemplate redisTemplate, CategoryCatalogProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.channel = properties.getChannel();
+    }
+
+    public void publishChange() {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId);
+        } catch (RuntimeException e) {
+            // Остальные узлы догонят при плановом перечитывании
+            log.warn("Failed to publish category catalog change", e);
+        }
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    boolean isOwnMessage(String body) {
+        return nodeId.equals(body);
+    }
+}
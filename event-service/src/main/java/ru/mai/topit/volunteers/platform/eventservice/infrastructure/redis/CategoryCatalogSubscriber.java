@@ -0,0 +1,27 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import ru.mai.topit.volunteers.platform.eventservice.application.catalog.CategoryCatalog;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Перечитывает каталог категорий по оповещению с другого узла.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryCatalogSubscriber implements MessageListener {
+
+    private final CategoryCatalog categoryCatalog;
+    private final CategoryCatalogNotifier notifier;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!notifier.isOwnMessage(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            categoryCatalog.refresh();
+        }
+    }
+}
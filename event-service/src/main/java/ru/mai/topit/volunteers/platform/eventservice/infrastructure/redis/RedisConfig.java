@@ -0,0 +1,24 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.redis;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Подписки Redis pub/sub.
+ */
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       CategoryCatalogSubscriber categoryCatalogSubscriber,
+                                                                       CategoryCatalogNotifier categoryCatalogNotifier) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(categoryCatalogSubscriber, new ChannelTopic(categoryCatalogNotifier.getChannel()));
+        return container;
+    }
+}
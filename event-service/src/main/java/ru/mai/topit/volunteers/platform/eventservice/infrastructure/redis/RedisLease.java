@@ -0,0 +1,80 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Аренда фоновой задачи в Redis: ключ с id узла и TTL (SET NX PX).
+ * Снимается только узлом-владельцем; при падении узла истекает сама.
+ * Фоновые задачи выполняются через {@link #runLeased}.
+ */
+@Slf4j
+@Component
+public class RedisLease {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisLease(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Выполнить задачу под арендой и отпустить её.
+     * Если аренда занята другим узлом или Redis недоступен, прогон пропускается: без аренды
+     * нельзя исключить, что задачу в это же время выполняет другой узел.
+     *
+     * @return была ли задача выполнена
+     */
+    public boolean runLeased(String key, Duration ttl, Runnable task) {
+        boolean acquired;
+        try {
+            acquired = tryAcquire(key, ttl);
+        } catch (RuntimeException e) {
+            log.warn("Redis unavailable, skipping run under lease {}", key, e);
+            return false;
+        }
+        if (!acquired) {
+            return false;
+        }
+        try {
+            task.run();
+        } finally {
+            release(key);
+        }
+        return true;
+    }
+
+    /**
+     * Взять аренду, если она свободна.
+     */
+    public boolean tryAcquire(String key, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, nodeId, ttl));
+    }
+
+    /**
+     * Отпустить аренду, если она всё ещё принадлежит этому узлу.
+     */
+    public void release(String key) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), nodeId);
+        } catch (RuntimeException e) {
+            // Аренда истечёт по TTL
+            log.warn("Failed to release lease {}", key, e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.mai.topit.volunteers.platform.eventservice.application.views.DatabaseViewDeltaSink;
+import ru.mai.topit.volunteers.platform.eventservice.application.views.ViewDeltaSink;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.EventViewProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Промежуточное хранение просмотров в общем hash Redis ({@code staging: redis}).
+ * <p>
+ * Узлы прибавляют свои приросты через HINCRBY, а периодический перенос переименовывает hash
+ * в ключ обработки, записывает его в БД одной пачкой и только после этого удаляет ключ обработки.
+ * Если узел упал или запись в БД не прошла, ключ обработки остаётся и переносится следующим запуском,
+ * в том числе сразу после старта. Перенос выполняет один узел под арендой. Падение между записью
+ * в БД и удалением ключа приведёт к повторному учёту этой пачки: просмотры доставляются хотя бы раз.
+ * Так число UPDATE на горячие строки не растёт с числом узлов.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "event.views", name = "staging", havingValue = "redis")
+public class RedisViewDeltaSink implements ViewDeltaSink {
+
+    private static final RedisScript<Long> CLAIM_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            return redis.call('RENAMENX', KEYS[1], KEYS[2])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final DatabaseViewDeltaSink databaseSink;
+    private final RedisLease lease;
+    private final String key;
+    private final String processingKey;
+    private final String leaseKey;
+    private final Duration leaseTtl;
+
+    public RedisViewDeltaSink(StringRedisTemplate redisTemplate,
+                              DatabaseViewDeltaSink databaseSink,
+                              RedisLease lease,
+                              EventViewProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.databaseSink = databaseSink;
+        this.lease = lease;
+        this.key = properties.getRedisKey();
+        this.processingKey = properties.getRedisKey() + ":processing";
+        this.leaseKey = properties.getRedisDrainLeaseKey();
+        this.leaseTtl = properties.getRedisDrainLeaseTtl();
+    }
+
+    @Override
+    public void push(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            deltas.forEach((eventId, delta) -> redis.hIncrBy(key, eventId.toString(), delta));
+            return null;
+        });
+    }
+
+    /**
+     * Перенести остаток, оставшийся в ключе обработки после падения узла.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void drainLeftover() {
+        drainToDatabase();
+    }
+
+    /**
+     * Перенести накопленные в Redis просмотры в БД.
+     */
+    @Scheduled(fixedDelayString = "${event.views.redisDrainIntervalMillis:10000}",
+            initialDelayString = "${event.views.redisDrainIntervalMillis:10000}")
+    public void drainToDatabase() {
+        lease.runLeased(leaseKey, leaseTtl, this::drainOnce);
+    }
+
+    private void drainOnce() {
+        try {
+            // Сначала остаток прошлого переноса, затем новые приросты
+            drainProcessing();
+            Long claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(key, processingKey));
+            if (claimed != null && claimed == 1) {
+                drainProcessing();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to move views to database, {} is kept for the next drain", processingKey, e);
+        }
+    }
+
+    private void drainProcessing() {
+        Map<Long, Long> deltas = new HashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(processingKey)
+                .forEach((eventId, delta) -> deltas.put(Long.valueOf(eventId), Long.valueOf(delta)));
+        if (!deltas.isEmpty()) {
+            databaseSink.push(deltas);
+        }
+        redisTemplate.delete(processingKey);
+    }
+}
@@ -0,0 +1,70 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import ru.mai.topit.volunteers.platform.eventservice.application.catalog.CategoriesChangedEvent;
+import ru.mai.topit.volunteers.platform.eventservice.application.catalog.CategoryCatalog;
+import ru.mai.topit.volunteers.platform.eventservice.domain.Category;
+
+/**
+ * Слушатель Hibernate для {@link Category}: сообщает каталогу о любом изменении категории,
+ * в том числе о {@code activate()}/{@code deactivate()} без явного save.
+ * Регистрируется в Hibernate при старте, поэтому доменная сущность не зависит от приложения.
+ * Каталог обновляется после коммита, см. {@link CategoryCatalog}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryChangeListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void onChange(Object entity) {
+        if (entity instanceof Category category) {
+            eventPublisher.publishEvent(new CategoriesChangedEvent(category.getId()));
+        }
+    }
+}
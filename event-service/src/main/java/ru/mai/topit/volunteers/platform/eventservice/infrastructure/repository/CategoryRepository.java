@@ -17,6 +17,7 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     /**
      * Найти активные категории, отсортированные по порядку сортировки.
+     * Для чтения на горячем пути используйте {@code CategoryCatalog}.
      */
     List<Category> findByIsActiveTrueOrderBySortOrderAsc();
 
@@ -32,6 +33,7 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     /**
      * Найти категории по части имени (для поиска).
+     * Для чтения на горячем пути используйте {@code CategoryCatalog}.
      */
     @Query("SELECT c FROM Category c WHERE c.isActive = true AND LOWER(c.name) LIKE LOWER(CONCAT('%', :name, '%')) ORDER BY c.sortOrder ASC")
     List<Category> findActiveByNameContaining(@Param("name") String name);
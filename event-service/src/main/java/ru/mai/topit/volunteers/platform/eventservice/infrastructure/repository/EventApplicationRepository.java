@@ -1,15 +1,22 @@
 package ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.mai.topit.volunteers.platform.eventservice.domain.EventApplication;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Репозиторий для работы с заявками на участие в событиях.
@@ -44,7 +51,10 @@ public interface EventApplicationRepository extends JpaRepository<EventApplicati
 
     /**
      * Подсчитать количество заявок на событие по статусу.
+     *
+     * @deprecated COUNT(*) по заявкам на каждый вызов; готовые числа — {@link #findStatusCounts}
      */
+    @Deprecated
     @Query("SELECT COUNT(ea) FROM EventApplication ea WHERE ea.event.id = :eventId AND ea.status = :status")
     long countByEventIdAndStatus(@Param("eventId") Long eventId, @Param("status") String status);
 
@@ -53,6 +63,20 @@ public interface EventApplicationRepository extends JpaRepository<EventApplicati
      */
     boolean existsByEventIdAndUserId(Long eventId, Long userId);
 
+    /**
+     * Проверить, есть ли у пользователя заявка на событие в одном из статусов.
+     */
+    boolean existsByEventIdAndUserIdAndStatusIn(Long eventId, Long userId, Collection<String> statuses);
+
+    /**
+     * Пользователи из списка, у которых уже есть заявка на событие в одном из статусов.
+     */
+    @Query("SELECT ea.userId FROM EventApplication ea " +
+           "WHERE ea.event.id = :eventId AND ea.userId IN :userIds AND ea.status IN :statuses")
+    List<Long> findUserIdsWithApplication(@Param("eventId") Long eventId,
+                                          @Param("userIds") Collection<Long> userIds,
+                                          @Param("statuses") Collection<String> statuses);
+
     /**
      * Найти заявки, ожидающие рассмотрения.
      */
@@ -70,4 +94,210 @@ public interface EventApplicationRepository extends JpaRepository<EventApplicati
      */
     @Query("SELECT ea FROM EventApplication ea WHERE ea.userId = :userId AND ea.status IN ('pending', 'approved') ORDER BY ea.applicationDate DESC")
     List<EventApplication> findActiveApplicationsByUser(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    /**
+     * Keyset-страница заявок на событие, новые первыми: заявки до пары (beforeDate, beforeId).
+     */
+    @Query("SELECT ea FROM EventApplication ea WHERE ea.event.id = :eventId " +
+           "AND ea.applicationDate <= :beforeDate " +
+           "AND (ea.applicationDate < :beforeDate OR ea.id < :beforeId) " +
+           "ORDER BY ea.applicationDate DESC, ea.id DESC")
+    List<EventApplication> findPageByEvent(@Param("eventId") Long eventId,
+                                           @Param("beforeDate") OffsetDateTime beforeDate,
+                                           @Param("beforeId") long beforeId,
+                                           Limit limit);
+
+    /**
+     * Keyset-страница заявок пользователя, новые первыми.
+     */
+    @Query("SELECT ea FROM EventApplication ea WHERE ea.userId = :userId " +
+           "AND ea.applicationDate <= :beforeDate " +
+           "AND (ea.applicationDate < :beforeDate OR ea.id < :beforeId) " +
+           "ORDER BY ea.applicationDate DESC, ea.id DESC")
+    List<EventApplication> findPageByUser(@Param("userId") Long userId,
+                                          @Param("beforeDate") OffsetDateTime beforeDate,
+                                          @Param("beforeId") long beforeId,
+                                          Limit limit);
+
+    /**
+     * Keyset-страница заявок по статусу, новые первыми.
+     */
+    @Query("SELECT ea FROM EventApplication ea WHERE ea.status = :status " +
+           "AND ea.applicationDate <= :beforeDate " +
+           "AND (ea.applicationDate < :beforeDate OR ea.id < :beforeId) " +
+           "ORDER BY ea.applicationDate DESC, ea.id DESC")
+    List<EventApplication> findPageByStatus(@Param("status") String status,
+                                            @Param("beforeDate") OffsetDateTime beforeDate,
+                                            @Param("beforeId") long beforeId,
+                                            Limit limit);
+
+    /**
+     * Keyset-страница заявок, рассмотренных пользователем, по дате рассмотрения (новые первыми).
+     */
+    @Query("SELECT ea FROM EventApplication ea WHERE ea.reviewedBy = :reviewedBy " +
+           "AND ea.status IN ('pending', 'approved', 'rejected') " +
+           "AND ea.reviewDate <= :beforeDate " +
+           "AND (ea.reviewDate < :beforeDate OR ea.id < :beforeId) " +
+           "ORDER BY ea.reviewDate DESC, ea.id DESC")
+    List<EventApplication> findPageByReviewer(@Param("reviewedBy") Long reviewedBy,
+                                              @Param("beforeDate") OffsetDateTime beforeDate,
+                                              @Param("beforeId") long beforeId,
+                                              Limit limit);
+
+    /**
+     * Поток строк выгрузки всех заявок на событие: без сущностей и контекста персистентности.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE))
+    @Query(value = """
+            SELECT ea.id AS id, ea.user_id AS userId, ea.status AS status,
+                   ea.application_date AS applicationDate, ea.message AS message,
+                   CAST(ea.contact_info AS text) AS contactInfo,
+                   ea.reviewed_by AS reviewedBy, ea.review_date AS reviewDate, ea.review_comment AS reviewComment
+            FROM event_service.event_applications ea
+            WHERE ea.event_id = :eventId
+            ORDER BY ea.id
+            """, nativeQuery = true)
+    Stream<ApplicationExportRow> streamExportRows(@Param("eventId") Long eventId);
+
+    /**
+     * Число заявок по статусам для нескольких событий одним запросом из event_application_counts.
+     * Статусы без заявок в результат не попадают.
+     */
+    @Query(value = """
+            SELECT c.event_id AS eventId, c.status AS status, c.count AS count
+            FROM event_service.event_application_counts c
+            WHERE c.event_id = ANY(CAST(:eventIds AS bigint[]))
+            """, nativeQuery = true)
+    List<StatusCountRow> findStatusCounts(@Param("eventIds") Long[] eventIds);
+
+    /**
+     * Пересчитать счётчики заявок и занятые места для пачки событий с id больше {@code afterEventId}.
+     * <p>
+     * event_application_counts и events.current_participants сверяются с самими заявками
+     * и исправляются, только если расходятся. Запрос нужно выполнять в REPEATABLE READ:
+     * если параллельная транзакция успела изменить ту же строку счётчика, пересчёт завершится
+     * ошибкой сериализации вместо записи устаревшего значения.
+     *
+     * @return последний id пачки ({@code null}, если событий больше нет) и число исправленных строк
+     */
+    @Query(value = """
+            WITH ids AS (
+                SELECT id FROM event_service.events
+                WHERE id > :afterEventId
+                ORDER BY id
+                LIMIT :limit
+            ),
+            actual AS (
+                SELECT a.event_id, a.status, CAST(count(*) AS integer) AS count
+                FROM event_service.event_applications a
+                JOIN ids ON a.event_id = ids.id
+                GROUP BY a.event_id, a.status
+            ),
+            seats AS (
+                SELECT ids.id AS event_id,
+                       CAST(count(a.id) AS integer) AS seats
+                FROM ids
+                LEFT JOIN event_service.event_applications a ON a.event_id = ids.id AND a.seat_reserved
+                GROUP BY ids.id
+            ),
+            upserted AS (
+                INSERT INTO event_service.event_application_counts AS c (event_id, status, count)
+                SELECT event_id, status, count FROM actual
+                ORDER BY event_id, status
+                ON CONFLICT (event_id, status) DO UPDATE SET count = EXCLUDED.count
+                WHERE c.count <> EXCLUDED.count
+                RETURNING c.event_id
+            ),
+            removed AS (
+                DELETE FROM event_service.event_application_counts c
+                USING ids
+                WHERE c.event_id = ids.id
+                  AND NOT EXISTS (SELECT 1 FROM actual WHERE actual.event_id = c.event_id AND actual.status = c.status)
+                RETURNING c.event_id
+            ),
+            reseated AS (
+                UPDATE event_service.events e
+                SET current_participants = s.seats
+                FROM seats s
+                WHERE e.id = s.event_id AND e.current_participants <> s.seats
+                RETURNING e.id
+            )
+            SELECT (SELECT max(id) FROM ids) AS lastEventId,
+                   (SELECT count(*) FROM upserted) + (SELECT count(*) FROM removed) AS fixedCounts,
+                   (SELECT count(*) FROM reseated) AS fixedSeats
+            """, nativeQuery = true)
+    ReconcileBatchRow reconcileCounts(@Param("afterEventId") long afterEventId, @Param("limit") int limit);
+
+    /**
+     * Подать заявку одним вызовом функции submit_application (V16): повтор по ключу идемпотентности,
+     * проверка дубликата, открытой регистрации, занятие места, вставка заявки и сообщения в outbox.
+     *
+     * @return результат подачи и id заявки (созданной, повторённой или уже существующей)
+     */
+    @Query(value = """
+            SELECT s.outcome AS outcome, s.application_id AS applicationId
+            FROM event_service.submit_application(:eventId, :userId, CAST(:message AS text),
+                    CAST(:contactInfo AS jsonb), CAST(:idempotencyKey AS varchar), :claimSeat, :topic) s
+            """, nativeQuery = true)
+    SubmissionRow submitApplication(@Param("eventId") Long eventId,
+                                    @Param("userId") Long userId,
+                                    @Param("message") String message,
+                                    @Param("contactInfo") String contactInfo,
+                                    @Param("idempotencyKey") String idempotencyKey,
+                                    @Param("claimSeat") boolean claimSeat,
+                                    @Param("topic") String topic);
+
+    /**
+     * Результат {@link #submitApplication}.
+     */
+    interface SubmissionRow {
+        String getOutcome();
+
+        Long getApplicationId();
+    }
+
+    /**
+     * Число заявок события в статусе.
+     */
+    interface StatusCountRow {
+        Long getEventId();
+
+        String getStatus();
+
+        Integer getCount();
+    }
+
+    /**
+     * Итог пересчёта пачки, см. {@link #reconcileCounts}.
+     */
+    interface ReconcileBatchRow {
+        Long getLastEventId();
+
+        Long getFixedCounts();
+
+        Long getFixedSeats();
+    }
+
+    /**
+     * Строка выгрузки заявки; {@code contactInfo} — JSON-текст.
+     */
+    interface ApplicationExportRow {
+        Long getId();
+
+        Long getUserId();
+
+        String getStatus();
+
+        OffsetDateTime getApplicationDate();
+
+        String getMessage();
+
+        String getContactInfo();
+
+        Long getReviewedBy();
+
+        OffsetDateTime getReviewDate();
+
+        String getReviewComment();
+    }
+}
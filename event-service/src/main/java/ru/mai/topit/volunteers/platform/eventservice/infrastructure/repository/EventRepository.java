@@ -3,13 +3,18 @@ package ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import ru.mai.topit.volunteers.platform.eventservice.domain.Event;
 
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для работы с событиями.
@@ -17,20 +22,31 @@ import java.util.List;
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
+    /**
+     * Организатор события без загрузки сущности.
+     */
+    @Query("select e.authorId from Event e where e.id = :eventId")
+    Optional<Long> findAuthorIdById(@Param("eventId") Long eventId);
+
     /**
      * Найти опубликованные события с пагинацией.
      */
-    Page<Event> findByStatusOrderByStartDateAsc(String status, Pageable pageable);
+    Page<Event> findByStatusOrderByScheduleStartDateAsc(String status, Pageable pageable);
 
     /**
      * Найти опубликованные события по категории.
      */
-    Page<Event> findByStatusAndCategoryIdOrderByStartDateAsc(String status, Long categoryId, Pageable pageable);
+    Page<Event> findByStatusAndCategoryIdOrderByScheduleStartDateAsc(String status, Long categoryId, Pageable pageable);
 
     /**
-     * Найти рекомендуемые события.
+     * Найти рекомендуемые события (частичный индекс idx_events_featured_status_start_id).
      */
-    List<Event> findByStatusAndIsFeaturedTrueOrderByStartDateAsc(String status);
+    @Query(value = """
+            SELECT * FROM event_service.events e
+            WHERE e.status = :status AND e.is_featured
+            ORDER BY e.start_date, e.id
+            """, nativeQuery = true)
+    List<Event> findByStatusAndIsFeaturedTrueOrderByScheduleStartDateAsc(@Param("status") String status);
 
     /**
      * Найти события автора.
@@ -40,50 +56,473 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     /**
      * Найти события по типу мероприятия.
      */
-    Page<Event> findByStatusAndEventTypeOrderByStartDateAsc(String status, String eventType, Pageable pageable);
+    Page<Event> findByStatusAndEventTypeOrderByScheduleStartDateAsc(String status, String eventType, Pageable pageable);
+
+    /**
+     * Столбцы карточки события для списков: без description, content и прочих TEXT-полей.
+     * Теги читаются тем же запросом из events.tags.
+     */
+    String CARD_COLUMNS = """
+            e.id AS id, e.title AS title, e.category_id AS categoryId, e.image_url AS imageUrl,
+            e.status AS status, e.event_type AS eventType, e.start_date AS startDate, e.end_date AS endDate,
+            e.location_name AS locationName, e.latitude AS latitude, e.longitude AS longitude,
+            e.max_participants AS maxParticipants, e.current_participants AS currentParticipants,
+            e.views_count AS viewsCount, e.is_featured AS featured, e.tags AS tags, e.created_at AS createdAt
+            """;
+
+    /**
+     * Карточки событий по id, порядок не гарантируется.
+     */
+    @Query(value = "SELECT " + CARD_COLUMNS + " FROM event_service.events e WHERE e.id IN (:ids)", nativeQuery = true)
+    List<EventCardRow> findCardsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset-страница карточек событий со статусом по дате начала: события после пары (afterStart, afterId).
+     * Условие {@code start_date >= afterStart} задаёт начало диапазона индекса idx_events_status_start_id.
+     */
+    @Query(value = "SELECT " + CARD_COLUMNS + """
+            FROM event_service.events e
+            WHERE e.status = :status
+              AND e.start_date >= :afterStart
+              AND (e.start_date > :afterStart OR e.id > :afterId)
+            ORDER BY e.start_date, e.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<EventCardRow> findCardPageByStatus(@Param("status") String status,
+                                            @Param("afterStart") OffsetDateTime afterStart,
+                                            @Param("afterId") long afterId,
+                                            @Param("limit") int limit);
+
+    /**
+     * Keyset-страница карточек событий категории по дате начала.
+     */
+    @Query(value = "SELECT " + CARD_COLUMNS + """
+            FROM event_service.events e
+            WHERE e.status = :status AND e.category_id = :categoryId
+              AND e.start_date >= :afterStart
+              AND (e.start_date > :afterStart OR e.id > :afterId)
+            ORDER BY e.start_date, e.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<EventCardRow> findCardPageByStatusAndCategory(@Param("status") String status,
+                                                       @Param("categoryId") Long categoryId,
+                                                       @Param("afterStart") OffsetDateTime afterStart,
+                                                       @Param("afterId") long afterId,
+                                                       @Param("limit") int limit);
+
+    /**
+     * Keyset-страница карточек событий по типу мероприятия и дате начала.
+     */
+    @Query(value = "SELECT " + CARD_COLUMNS + """
+            FROM event_service.events e
+            WHERE e.status = :status AND e.event_type = :eventType
+              AND e.start_date >= :afterStart
+              AND (e.start_date > :afterStart OR e.id > :afterId)
+            ORDER BY e.start_date, e.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<EventCardRow> findCardPageByStatusAndEventType(@Param("status") String status,
+                                                        @Param("eventType") String eventType,
+                                                        @Param("afterStart") OffsetDateTime afterStart,
+                                                        @Param("afterId") long afterId,
+                                                        @Param("limit") int limit);
+
+    /**
+     * Keyset-страница карточек событий автора, новые первыми: события до пары (beforeCreated, beforeId).
+     */
+    @Query(value = "SELECT " + CARD_COLUMNS + """
+            FROM event_service.events e
+            WHERE e.author_id = :authorId
+              AND e.created_at <= :beforeCreated
+              AND (e.created_at < :beforeCreated OR e.id < :beforeId)
+            ORDER BY e.created_at DESC, e.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<EventCardRow> findCardPageByAuthor(@Param("authorId") Long authorId,
+                                            @Param("beforeCreated") OffsetDateTime beforeCreated,
+                                            @Param("beforeId") long beforeId,
+                                            @Param("limit") int limit);
 
     /**
      * Поиск событий по названию или описанию.
+     *
+     * @deprecated LIKE с ведущим шаблоном всегда читает таблицу целиком;
+     * используйте {@link #searchPublishedEventsRanked} или {@link #searchPublishedEventsFuzzy}.
      */
+    @Deprecated
     @Query("SELECT e FROM Event e WHERE e.status = :status AND " +
            "(LOWER(e.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(e.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
-           "ORDER BY e.startDate ASC")
+           "ORDER BY e.schedule.startDate ASC")
     Page<Event> searchPublishedEvents(@Param("status") String status, @Param("searchTerm") String searchTerm, Pageable pageable);
 
+    /**
+     * Полнотекстовый поиск опубликованных событий по search_vector, самые релевантные первыми.
+     * Keyset-пагинация по (score, id): следующая страница начинается после пары {@code afterScore, afterId}.
+     */
+    @Query(value = """
+            SELECT r.id AS id, r.score AS score
+            FROM (
+                SELECT e.id, ts_rank_cd(e.search_vector, q.query) AS score
+                FROM event_service.events e,
+                     (SELECT websearch_to_tsquery('pg_catalog.russian', :query)
+                             || websearch_to_tsquery('pg_catalog.english', :query)
+                             || websearch_to_tsquery('pg_catalog.simple', :query) AS query) q
+                WHERE e.status = 'published' AND e.search_vector @@ q.query
+            ) r
+            WHERE r.score < CAST(:afterScore AS real) OR (r.score = CAST(:afterScore AS real) AND r.id > :afterId)
+            ORDER BY r.score DESC, r.id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<SearchHitRow> searchPublishedEventsRanked(@Param("query") String query,
+                                                   @Param("afterScore") float afterScore,
+                                                   @Param("afterId") long afterId,
+                                                   @Param("limit") int limit);
+
+    /**
+     * Поиск опубликованных событий по похожести названия (триграммы) — для запросов с опечатками.
+     */
+    @Query(value = """
+            SELECT r.id AS id, r.score AS score
+            FROM (
+                SELECT e.id, word_similarity(:query, e.title) AS score
+                FROM event_service.events e
+                WHERE e.status = 'published' AND :query <% e.title
+            ) r
+            WHERE r.score < CAST(:afterScore AS real) OR (r.score = CAST(:afterScore AS real) AND r.id > :afterId)
+            ORDER BY r.score DESC, r.id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<SearchHitRow> searchPublishedEventsFuzzy(@Param("query") String query,
+                                                  @Param("afterScore") float afterScore,
+                                                  @Param("afterId") long afterId,
+                                                  @Param("limit") int limit);
+
     /**
      * Найти предстоящие события.
      */
-    @Query("SELECT e FROM Event e WHERE e.status = :status AND e.startDate > :now ORDER BY e.startDate ASC")
+    @Query("SELECT e FROM Event e WHERE e.status = :status AND e.schedule.startDate > :now ORDER BY e.schedule.startDate ASC")
     List<Event> findUpcomingEvents(@Param("status") String status, @Param("now") OffsetDateTime now);
 
     /**
      * Найти события в указанном временном диапазоне.
      */
     @Query("SELECT e FROM Event e WHERE e.status = :status AND " +
-           "e.startDate >= :startDate AND e.endDate <= :endDate " +
-           "ORDER BY e.startDate ASC")
+           "e.schedule.startDate >= :startDate AND e.schedule.endDate <= :endDate " +
+           "ORDER BY e.schedule.startDate ASC")
     List<Event> findEventsInDateRange(@Param("status") String status, 
                                      @Param("startDate") OffsetDateTime startDate, 
                                      @Param("endDate") OffsetDateTime endDate);
 
     /**
-     * Найти события по тегам.
+     * Найти события, у которых есть хотя бы один из тегов ({@code tags && :tags}, индекс idx_events_tags).
      */
-    @Query("SELECT DISTINCT e FROM Event e JOIN e.tags t WHERE e.status = :status AND t IN :tags ORDER BY e.startDate ASC")
-    List<Event> findEventsByTags(@Param("status") String status, @Param("tags") List<String> tags);
+    @Query(value = """
+            SELECT * FROM event_service.events e
+            WHERE e.status = :status AND e.tags && CAST(:tags AS text[])
+            ORDER BY e.start_date
+            """, nativeQuery = true)
+    List<Event> findEventsByTags(@Param("status") String status, @Param("tags") String[] tags);
 
     /**
-     * Найти события рядом с указанными координатами.
+     * Keyset-страница карточек событий, у которых есть хотя бы один из тегов, по дате начала.
+     * Кандидаты отбираются по GIN-индексу idx_events_tags.
      */
-    @Query("SELECT e FROM Event e WHERE e.status = :status AND " +
-           "e.latitude IS NOT NULL AND e.longitude IS NOT NULL AND " +
-           "(6371 * acos(cos(radians(:latitude)) * cos(radians(e.latitude)) * " +
-           "cos(radians(e.longitude) - radians(:longitude)) + sin(radians(:latitude)) * " +
-           "sin(radians(e.latitude)))) <= :radius " +
-           "ORDER BY e.startDate ASC")
-    List<Event> findNearbyEvents(@Param("status") String status, 
-                               @Param("latitude") Double latitude, 
-                               @Param("longitude") Double longitude, 
-                               @Param("radius") Double radius);
-}
\ No newline at end of file
+    @Query(value = "SELECT " + CARD_COLUMNS + """
+            FROM event_service.events e
+            WHERE e.status = :status AND e.tags && CAST(:tags AS text[])
+              AND e.start_date >= :afterStart
+              AND (e.start_date > :afterStart OR e.id > :afterId)
+            ORDER BY e.start_date, e.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<EventCardRow> findCardPageByAnyTag(@Param("status") String status,
+                                            @Param("tags") String[] tags,
+                                            @Param("afterStart") OffsetDateTime afterStart,
+                                            @Param("afterId") long afterId,
+                                            @Param("limit") int limit);
+
+    /**
+     * Keyset-страница карточек событий, у которых есть все теги ({@code tags @> :tags}), по дате начала.
+     */
+    @Query(value = "SELECT " + CARD_COLUMNS + """
+            FROM event_service.events e
+            WHERE e.status = :status AND e.tags @> CAST(:tags AS text[])
+              AND e.start_date >= :afterStart
+              AND (e.start_date > :afterStart OR e.id > :afterId)
+            ORDER BY e.start_date, e.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<EventCardRow> findCardPageByAllTags(@Param("status") String status,
+                                             @Param("tags") String[] tags,
+                                             @Param("afterStart") OffsetDateTime afterStart,
+                                             @Param("afterId") long afterId,
+                                             @Param("limit") int limit);
+
+    /**
+     * Найти опубликованные события в радиусе от точки, ближайшие первыми.
+     * Прямоугольник координат отбирает кандидатов по индексу idx_events_published_geo,
+     * точное расстояние (формула гаверсинусов) считается только для них.
+     */
+    @Query(value = """
+            SELECT e.id AS id, d.distance_km AS distanceKm
+            FROM event_service.events e
+            CROSS JOIN LATERAL (
+                SELECT 2 * 6371 * asin(sqrt(
+                        power(sin(radians(e.latitude::double precision - :latitude) / 2), 2) +
+                        cos(radians(:latitude)) * cos(radians(e.latitude::double precision)) *
+                        power(sin(radians(e.longitude::double precision - :longitude) / 2), 2))) AS distance_km
+            ) d
+            WHERE e.status = 'published'
+              AND e.latitude IS NOT NULL AND e.longitude IS NOT NULL
+              AND point(e.longitude::double precision, e.latitude::double precision)
+                  <@ box(point(:minLongitude, :minLatitude), point(:maxLongitude, :maxLatitude))
+              AND d.distance_km <= :radius
+            ORDER BY d.distance_km, e.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<NearbyEventRow> findNearbyPublishedEvents(@Param("latitude") double latitude,
+                                                   @Param("longitude") double longitude,
+                                                   @Param("radius") double radius,
+                                                   @Param("minLatitude") double minLatitude,
+                                                   @Param("maxLatitude") double maxLatitude,
+                                                   @Param("minLongitude") double minLongitude,
+                                                   @Param("maxLongitude") double maxLongitude,
+                                                   @Param("limit") int limit,
+                                                   @Param("offset") long offset);
+
+    /**
+     * Занять место на событии одним условным UPDATE.
+     * Проверка лимита и инкремент выполняются атомарно под блокировкой строки,
+     * поэтому параллельные регистрации не теряют обновления и не превышают max_participants.
+     *
+     * @return 1, если место занято; 0, если мест нет или регистрация закрыта
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE event_service.events
+            SET current_participants = current_participants + 1
+            WHERE id = :eventId
+              AND status = 'published'
+              AND start_date > now()
+              AND (registration_deadline IS NULL OR registration_deadline > now())
+              AND (max_participants IS NULL OR current_participants < max_participants)
+            """, nativeQuery = true)
+    int tryReserveSeat(@Param("eventId") Long eventId);
+
+    /**
+     * Занять сразу {@code seats} мест, если их хватает (всё или ничего).
+     *
+     * @return 1, если места заняты; 0, если мест не хватает или регистрация закрыта
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE event_service.events
+            SET current_participants = current_participants + :seats
+            WHERE id = :eventId
+              AND status = 'published'
+              AND start_date > now()
+              AND (registration_deadline IS NULL OR registration_deadline > now())
+              AND (max_participants IS NULL OR current_participants + :seats <= max_participants)
+            """, nativeQuery = true)
+    int tryReserveSeats(@Param("eventId") Long eventId, @Param("seats") int seats);
+
+    /**
+     * Освободить место на событии.
+     *
+     * @return 1, если счётчик уменьшен
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE event_service.events
+            SET current_participants = current_participants - 1
+            WHERE id = :eventId AND current_participants > 0
+            """, nativeQuery = true)
+    int releaseSeat(@Param("eventId") Long eventId);
+
+    /**
+     * Прибавить накопленные просмотры к нескольким событиям одним UPDATE.
+     * Массивы {@code ids} и {@code deltas} сопоставляются по индексу.
+     *
+     * @return количество обновлённых событий
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE event_service.events e
+            SET views_count = e.views_count + d.delta
+            FROM unnest(CAST(:ids AS bigint[]), CAST(:deltas AS bigint[])) AS d(id, delta)
+            WHERE e.id = d.id
+            """, nativeQuery = true)
+    int addViews(@Param("ids") Long[] ids, @Param("deltas") Long[] deltas);
+
+    /**
+     * Перевести пачку завершившихся опубликованных событий в completed одним запросом
+     * и записать для каждого сообщение {@code EventStatusChanged} в outbox.
+     * <p>
+     * Строки, заблокированные другими транзакциями, пропускаются ({@code SKIP LOCKED}):
+     * параллельные запуски на нескольких узлах разбирают разные события и не ждут друг друга.
+     *
+     * @return завершённые события с задержкой завершения относительно end_date
+     */
+    @Query(value = """
+            WITH due AS (
+                SELECT id FROM event_service.events
+                WHERE status = 'published' AND end_date < now()
+                ORDER BY end_date, id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ),
+            completed AS (
+                UPDATE event_service.events e
+                SET status = 'completed', updated_at = now()
+                FROM due
+                WHERE e.id = due.id
+                RETURNING e.id, e.end_date
+            ),
+            outbox AS (
+                INSERT INTO event_service.outbox_messages
+                    (aggregate_type, aggregate_id, partition_key, event_type, topic, payload, created_at)
+                SELECT 'event', c.id, c.id::text, 'EventStatusChanged', :topic,
+                       jsonb_build_object('eventId', c.id, 'previousStatus', 'published',
+                                          'status', 'completed', 'occurredAt', now()),
+                       now()
+                FROM completed c
+                ORDER BY c.id
+            )
+            SELECT c.id AS id, CAST(EXTRACT(EPOCH FROM now() - c.end_date) AS bigint) AS lagSeconds
+            FROM completed c
+            """, nativeQuery = true)
+    List<CompletedEventRow> completeEndedEvents(@Param("limit") int limit, @Param("topic") String topic);
+
+    /**
+     * Сколько секунд назад закончилось самое старое ещё не завершённое опубликованное событие; 0, если таких нет.
+     */
+    @Query(value = """
+            SELECT CAST(COALESCE(EXTRACT(EPOCH FROM now() - min(end_date)), 0) AS bigint)
+            FROM event_service.events
+            WHERE status = 'published' AND end_date < now()
+            """, nativeQuery = true)
+    long findCompletionBacklogSeconds();
+
+    /**
+     * Перенести пачку завершённых и отменённых событий, закончившихся раньше {@code before},
+     * вместе с заявками в events_archive и event_applications_archive.
+     * <p>
+     * Все части запроса видят один снимок данных, поэтому заявки копируются до каскадного удаления
+     * вместе с событием. Заблокированные строки пропускаются ({@code SKIP LOCKED}).
+     * Столбцы перечислены явно: новый столбец events или event_applications нужно добавить сюда и в архив.
+     *
+     * @return количество перенесённых событий
+     */
+    @Modifying
+    @Query(value = """
+            WITH batch AS (
+                SELECT id FROM event_service.events
+                WHERE status IN ('completed', 'cancelled') AND end_date < :before
+                ORDER BY end_date, id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            ),
+            archived_applications AS (
+                INSERT INTO event_service.event_applications_archive
+                    (id, event_id, user_id, status, application_date, contact_info, message,
+                     reviewed_by, review_date, review_comment, created_at, updated_at,
+                     seat_reserved, idempotency_key)
+                SELECT a.id, a.event_id, a.user_id, a.status, a.application_date, a.contact_info, a.message,
+                       a.reviewed_by, a.review_date, a.review_comment, a.created_at, a.updated_at,
+                       a.seat_reserved, a.idempotency_key
+                FROM event_service.event_applications a
+                JOIN batch b ON a.event_id = b.id
+            ),
+            moved AS (
+                DELETE FROM event_service.events e
+                USING batch b
+                WHERE e.id = b.id
+                RETURNING e.id, e.title, e.description, e.content, e.category_id, e.image_url, e.status,
+                          e.event_type, e.max_participants, e.current_participants, e.age_restriction,
+                          e.location_name, e.location_address, e.latitude, e.longitude, e.online_url,
+                          e.start_date, e.end_date, e.registration_deadline, e.author_id, e.views_count,
+                          e.is_featured, e.tags, e.created_at, e.updated_at, e.published_at, e.search_vector
+            )
+            INSERT INTO event_service.events_archive
+                (id, title, description, content, category_id, image_url, status,
+                 event_type, max_participants, current_participants, age_restriction,
+                 location_name, location_address, latitude, longitude, online_url,
+                 start_date, end_date, registration_deadline, author_id, views_count,
+                 is_featured, tags, created_at, updated_at, published_at, search_vector)
+            SELECT id, title, description, content, category_id, image_url, status,
+                   event_type, max_participants, current_participants, age_restriction,
+                   location_name, location_address, latitude, longitude, online_url,
+                   start_date, end_date, registration_deadline, author_id, views_count,
+                   is_featured, tags, created_at, updated_at, published_at, search_vector
+            FROM moved
+            """, nativeQuery = true)
+    int archiveFinishedEvents(@Param("before") OffsetDateTime before, @Param("limit") int limit);
+
+    /**
+     * Событие, завершённое {@link #completeEndedEvents}.
+     */
+    interface CompletedEventRow {
+        Long getId();
+
+        Long getLagSeconds();
+    }
+
+    /**
+     * Строка карточки события, см. {@link #CARD_COLUMNS}.
+     */
+    interface EventCardRow {
+        Long getId();
+
+        String getTitle();
+
+        Long getCategoryId();
+
+        String getImageUrl();
+
+        String getStatus();
+
+        String getEventType();
+
+        OffsetDateTime getStartDate();
+
+        OffsetDateTime getEndDate();
+
+        String getLocationName();
+
+        BigDecimal getLatitude();
+
+        BigDecimal getLongitude();
+
+        Integer getMaxParticipants();
+
+        Integer getCurrentParticipants();
+
+        Long getViewsCount();
+
+        Boolean getFeatured();
+
+        String[] getTags();
+
+        OffsetDateTime getCreatedAt();
+    }
+
+    /**
+     * Идентификатор события и расстояние до него в километрах.
+     */
+    interface NearbyEventRow {
+        Long getId();
+
+        Double getDistanceKm();
+    }
+
+    /**
+     * Идентификатор найденного события и его релевантность.
+     */
+    interface SearchHitRow {
+        Long getId();
+
+        Float getScore();
+    }
+}
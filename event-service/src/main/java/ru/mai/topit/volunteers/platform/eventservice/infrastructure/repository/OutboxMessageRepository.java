@@ -0,0 +1,64 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.mai.topit.volunteers.platform.eventservice.domain.OutboxMessage;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Транзакционная advisory-блокировка: отправкой занимается один узел, порядок отправки не нарушается.
+     * Снимается при завершении транзакции.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryLock(@Param("key") long key);
+
+    /**
+     * Очередная пачка неотправленных сообщений в порядке транзакций, которые их записали.
+     * <p>
+     * Берутся только строки транзакций с id меньше xmin текущего снимка: такие транзакции уже завершены,
+     * и ни одна ещё не зафиксированная транзакция не добавит строку перед ними. Поэтому сообщение
+     * более ранней транзакции никогда не уходит после сообщения более поздней, а пропусков не бывает.
+     */
+    @Query(value = """
+            SELECT * FROM event_service.outbox_messages
+            WHERE published_at IS NULL
+              AND txid < pg_snapshot_xmin(pg_current_snapshot())
+            ORDER BY txid, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<OutboxMessage> findUnpublished(@Param("limit") int limit);
+
+    /**
+     * Отметить пачку подтверждённой брокером одним UPDATE.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE event_service.outbox_messages
+            SET published_at = :publishedAt
+            WHERE id = ANY(CAST(:ids AS bigint[]))
+            """, nativeQuery = true)
+    int markPublished(@Param("ids") Long[] ids, @Param("publishedAt") OffsetDateTime publishedAt);
+
+    /**
+     * Удалить порцию опубликованных сообщений старше срока хранения.
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM event_service.outbox_messages
+            WHERE id IN (
+                SELECT id FROM event_service.outbox_messages
+                WHERE published_at < :before
+                ORDER BY published_at
+                LIMIT :limit
+            )
+            """, nativeQuery = true)
+    int deletePublishedBefore(@Param("before") OffsetDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,17 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository;
+
+/**
+ * Общие параметры потоковых ({@code Stream}) запросов репозиториев.
+ * <p>
+ * Драйвер PostgreSQL читает результат порциями по {@link #FETCH_SIZE} строк через серверный курсор
+ * только при ненулевом fetch size и выключенном autocommit, то есть внутри транзакции:
+ * методы, возвращающие {@code Stream}, вызываются из {@code @Transactional(readOnly = true)},
+ * а поток закрывается через try-with-resources.
+ */
+public final class StreamingHints {
+
+    public static final String FETCH_SIZE = "500";
+
+    private StreamingHints() {
+    }
+}
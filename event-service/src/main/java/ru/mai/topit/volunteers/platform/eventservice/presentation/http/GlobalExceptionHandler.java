@@ -9,6 +9,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.ApplicationAlreadyExistsException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventAccessDeniedException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventApplicationNotFoundException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventFullException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventNotFoundException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.ExportLimitExceededException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.IdempotencyKeyConflictException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.InvalidApplicationStatusException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.RegistrationClosedException;
 
 import java.time.OffsetDateTime;
 import java.util.HashMap;
@@ -54,6 +63,86 @@ public class GlobalExceptionHandler {
                 "Constraint violation", details);
     }
 
+    /**
+     * Обрабатывает обращения к несуществующим событиям и заявкам.
+     */
+    @ExceptionHandler({EventNotFoundException.class, EventApplicationNotFoundException.class})
+    public ResponseEntity<Object> handleNotFound(
+            RuntimeException ex,
+            HttpServletRequest request) {
+        return error(request, HttpStatus.NOT_FOUND, "NOT_FOUND", ex.getMessage(), null);
+    }
+
+    /**
+     * Обрабатывает действия организатора, выполняемые другим пользователем.
+     */
+    @ExceptionHandler(EventAccessDeniedException.class)
+    public ResponseEntity<Object> handleEventAccessDenied(
+            EventAccessDeniedException ex,
+            HttpServletRequest request) {
+        return error(request, HttpStatus.FORBIDDEN, "EVENT_ACCESS_DENIED", ex.getMessage(), null);
+    }
+
+    /**
+     * Обрабатывает превышение числа одновременных выгрузок.
+     */
+    @ExceptionHandler(ExportLimitExceededException.class)
+    public ResponseEntity<Object> handleExportLimitExceeded(
+            ExportLimitExceededException ex,
+            HttpServletRequest request) {
+        return error(request, HttpStatus.TOO_MANY_REQUESTS, "EXPORT_LIMIT_EXCEEDED", ex.getMessage(), null);
+    }
+
+    /**
+     * Обрабатывает попытку занять место на заполненном событии.
+     */
+    @ExceptionHandler(EventFullException.class)
+    public ResponseEntity<Object> handleEventFull(
+            EventFullException ex,
+            HttpServletRequest request) {
+        return error(request, HttpStatus.CONFLICT, "EVENT_FULL", ex.getMessage(), null);
+    }
+
+    /**
+     * Обрабатывает повторную заявку на событие.
+     */
+    @ExceptionHandler(ApplicationAlreadyExistsException.class)
+    public ResponseEntity<Object> handleApplicationExists(
+            ApplicationAlreadyExistsException ex,
+            HttpServletRequest request) {
+        return error(request, HttpStatus.CONFLICT, "APPLICATION_EXISTS", ex.getMessage(), null);
+    }
+
+    /**
+     * Обрабатывает подачу заявки на событие с закрытой регистрацией.
+     */
+    @ExceptionHandler(RegistrationClosedException.class)
+    public ResponseEntity<Object> handleRegistrationClosed(
+            RegistrationClosedException ex,
+            HttpServletRequest request) {
+        return error(request, HttpStatus.CONFLICT, "REGISTRATION_CLOSED", ex.getMessage(), null);
+    }
+
+    /**
+     * Обрабатывает повторное использование ключа идемпотентности с другим событием.
+     */
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<Object> handleIdempotencyKeyConflict(
+            IdempotencyKeyConflictException ex,
+            HttpServletRequest request) {
+        return error(request, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED", ex.getMessage(), null);
+    }
+
+    /**
+     * Обрабатывает действия, недопустимые для текущего статуса заявки.
+     */
+    @ExceptionHandler(InvalidApplicationStatusException.class)
+    public ResponseEntity<Object> handleInvalidApplicationStatus(
+            InvalidApplicationStatusException ex,
+            HttpServletRequest request) {
+        return error(request, HttpStatus.CONFLICT, "INVALID_APPLICATION_STATUS", ex.getMessage(), null);
+    }
+
     /**
      * Обрабатывает неверные аргументы.
      */
@@ -0,0 +1,41 @@
+package ru.mai.topit.volunteers.platform.eventservice.presentation.http.application;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import ru.mai.topit.volunteers.platform.eventservice.application.BulkApplicationService;
+import ru.mai.topit.volunteers.platform.eventservice.presentation.http.application.dto.BulkApplicationDtos;
+
+/**
+ * Массовый импорт и одобрение заявок.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class EventApplicationBulkController {
+
+    private final BulkApplicationService bulkApplicationService;
+
+    @Operation(summary = "Импортировать заявки на событие")
+    @PostMapping("/events/{eventId}/applications/import")
+    public ResponseEntity<BulkApplicationDtos.BulkResponse> importApplications(
+            @PathVariable Long eventId,
+            @Valid @RequestBody BulkApplicationDtos.ImportRequest request) {
+        var result = bulkApplicationService.importApplications(eventId, request.applications().stream()
+                .map(item -> new BulkApplicationService.ApplicationImport(item.userId(), item.message(), item.contactInfo()))
+                .toList());
+
+        return ResponseEntity.ok(new BulkApplicationDtos.BulkResponse(result.processed(), result.skipped()));
+    }
+
+    @Operation(summary = "Одобрить заявки")
+    @PostMapping("/applications/approve")
+    public ResponseEntity<BulkApplicationDtos.BulkResponse> approveApplications(
+            @Valid @RequestBody BulkApplicationDtos.ApproveRequest request) {
+        var result = bulkApplicationService.approveAll(request.applicationIds(), request.reviewerId());
+
+        return ResponseEntity.ok(new BulkApplicationDtos.BulkResponse(result.processed(), result.skipped()));
+    }
+}
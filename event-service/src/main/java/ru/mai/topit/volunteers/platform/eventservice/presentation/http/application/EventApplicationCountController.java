@@ -0,0 +1,34 @@
+package ru.mai.topit.volunteers.platform.eventservice.presentation.http.application;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.mai.topit.volunteers.platform.eventservice.application.counts.ApplicationCountService;
+import ru.mai.topit.volunteers.platform.eventservice.presentation.http.application.dto.ApplicationCountDtos;
+
+import java.util.List;
+
+/**
+ * Счётчики заявок по статусам для дашборда организатора.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class EventApplicationCountController {
+
+    private final ApplicationCountService applicationCountService;
+
+    @Operation(summary = "Получить число заявок по статусам для страницы событий")
+    @GetMapping("/events/application-counts")
+    public ResponseEntity<ApplicationCountDtos.CountsResponse> getCounts(@RequestParam List<Long> eventIds) {
+        var counts = applicationCountService.countsByEvent(eventIds);
+
+        return ResponseEntity.ok(new ApplicationCountDtos.CountsResponse(counts.values().stream()
+                .map(ApplicationCountDtos.EventCounts::of)
+                .toList()));
+    }
+}
@@ -0,0 +1,45 @@
+package ru.mai.topit.volunteers.platform.eventservice.presentation.http.application;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.mai.topit.volunteers.platform.eventservice.application.export.ApplicationExportService;
+import ru.mai.topit.volunteers.platform.eventservice.application.export.ExportFormat;
+
+/**
+ * Потоковая выгрузка заявок на событие для его организатора.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class EventApplicationExportController {
+
+    private final ApplicationExportService applicationExportService;
+
+    @Operation(summary = "Выгрузить все заявки на событие (NDJSON или CSV)")
+    @GetMapping("/events/{eventId}/applications/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @PathVariable Long eventId,
+            @RequestParam Long requesterId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        ApplicationExportService.ExportSlot slot = applicationExportService.openExport(eventId, requesterId);
+        StreamingResponseBody body = out -> {
+            try (slot) {
+                applicationExportService.exportApplications(eventId, format, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("event-" + eventId + "-applications." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,37 @@
+package ru.mai.topit.volunteers.platform.eventservice.presentation.http.application;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import ru.mai.topit.volunteers.platform.eventservice.application.submission.ApplicationSubmissionService;
+import ru.mai.topit.volunteers.platform.eventservice.application.submission.SubmissionOutcome;
+import ru.mai.topit.volunteers.platform.eventservice.presentation.http.application.dto.SubmissionDtos;
+
+/**
+ * Подача заявки на событие. Повтор запроса с тем же заголовком {@code Idempotency-Key}
+ * возвращает уже созданную заявку.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class EventApplicationSubmissionController {
+
+    private final ApplicationSubmissionService submissionService;
+
+    @Operation(summary = "Подать заявку на событие")
+    @PostMapping("/events/{eventId}/applications")
+    public ResponseEntity<SubmissionDtos.SubmitResponse> submit(
+            @PathVariable Long eventId,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody SubmissionDtos.SubmitRequest request) {
+        var result = submissionService.submit(eventId, request.userId(), request.message(),
+                request.contactInfo(), idempotencyKey);
+        Long applicationId = ApplicationSubmissionService.requireAccepted(result, eventId, request.userId());
+
+        HttpStatus status = result.outcome() == SubmissionOutcome.CREATED ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(new SubmissionDtos.SubmitResponse(applicationId, result.outcome()));
+    }
+}
@@ -0,0 +1,28 @@
+package ru.mai.topit.volunteers.platform.eventservice.presentation.http.application.dto;
+
+import ru.mai.topit.volunteers.platform.eventservice.application.counts.ApplicationCounts;
+
+import java.util.List;
+
+/**
+ * DTO счётчиков заявок.
+ */
+public class ApplicationCountDtos {
+
+    public record EventCounts(
+            Long eventId,
+            int pending,
+            int approved,
+            int rejected,
+            int cancelled,
+            int total
+    ) {
+        public static EventCounts of(ApplicationCounts counts) {
+            return new EventCounts(counts.eventId(), counts.pending(), counts.approved(),
+                    counts.rejected(), counts.cancelled(), counts.total());
+        }
+    }
+
+    public record CountsResponse(List<EventCounts> events) {
+    }
+}
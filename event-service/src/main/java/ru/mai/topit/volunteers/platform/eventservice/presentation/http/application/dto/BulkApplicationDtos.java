@@ -0,0 +1,38 @@
+package ru.mai.topit.volunteers.platform.eventservice.presentation.http.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import ru.mai.topit.volunteers.platform.eventservice.application.BulkApplicationService;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO массовых операций с заявками.
+ */
+public class BulkApplicationDtos {
+
+    public record ImportItem(
+            @NotNull @Positive Long userId,
+            String message,
+            Map<String, Object> contactInfo
+    ) {
+    }
+
+    public record ImportRequest(
+            @NotEmpty @Size(max = BulkApplicationService.MAX_BULK_SIZE) List<@Valid @NotNull ImportItem> applications
+    ) {
+    }
+
+    public record ApproveRequest(
+            @NotNull @Positive Long reviewerId,
+            @NotEmpty @Size(max = BulkApplicationService.MAX_BULK_SIZE) List<@NotNull Long> applicationIds
+    ) {
+    }
+
+    public record BulkResponse(int processed, int skipped) {
+    }
+}
@@ -0,0 +1,23 @@
+package ru.mai.topit.volunteers.platform.eventservice.presentation.http.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import ru.mai.topit.volunteers.platform.eventservice.application.submission.SubmissionOutcome;
+
+import java.util.Map;
+
+/**
+ * DTO подачи заявки.
+ */
+public class SubmissionDtos {
+
+    public record SubmitRequest(
+            @NotNull @Positive Long userId,
+            String message,
+            Map<String, Object> contactInfo
+    ) {
+    }
+
+    public record SubmitResponse(Long applicationId, SubmissionOutcome outcome) {
+    }
+}
@@ -0,0 +1,55 @@
+-- Теги хранятся только в events.tags (TEXT[] с GIN-индексом idx_events_tags).
+-- Если раньше теги попадали в отдельную таблицу event_tags, переносим их в массив и удаляем таблицу.
+-- Теги приводятся к нижнему регистру без пробелов по краям и без повторов, как в Event.normalizeTags.
+-- Правила те же, что в Java: по краям срезаются символы, для которых Character.isWhitespace истинно
+-- (btrim убирает только ASCII-пробел), а регистр понижается по полным правилам Unicode через ICU,
+-- как String.toLowerCase(Locale.ROOT), а не по локали базы.
+ALTER TABLE event_service.events DISABLE TRIGGER update_events_updated_at;
+
+DO $$
+BEGIN
+    IF to_regclass('event_service.event_tags') IS NOT NULL THEN
+        UPDATE event_service.events e
+        SET tags = coalesce(e.tags, '{}') || t.tags
+        FROM (
+            SELECT event_id, array_agg(tag) AS tags
+            FROM event_service.event_tags
+            WHERE tag IS NOT NULL
+            GROUP BY event_id
+        ) t
+        WHERE t.event_id = e.id;
+
+        DROP TABLE event_service.event_tags;
+    END IF;
+END
+$$;
+
+WITH normalized AS (
+    SELECT e.id,
+           coalesce(array_agg(n.tag ORDER BY n.first_pos) FILTER (WHERE n.tag IS NOT NULL), '{}') AS tags
+    FROM event_service.events e
+    LEFT JOIN LATERAL (
+        SELECT lower(s.stripped COLLATE "und-x-icu") AS tag, min(pos) AS first_pos
+        FROM unnest(e.tags) WITH ORDINALITY AS u(raw, pos)
+        CROSS JOIN LATERAL (
+            SELECT regexp_replace(
+                       raw,
+                       '^[\t\n\u000B\f\r\u001C-\u0020\u1680\u2000-\u2006\u2008-\u200A\u2028\u2029\u205F\u3000]+'
+                           || '|[\t\n\u000B\f\r\u001C-\u0020\u1680\u2000-\u2006\u2008-\u200A\u2028\u2029\u205F\u3000]+$',
+                       '', 'g') AS stripped
+        ) s
+        WHERE s.stripped <> ''
+        GROUP BY 1
+    ) n ON true
+    GROUP BY e.id
+)
+UPDATE event_service.events e
+SET tags = n.tags
+FROM normalized n
+WHERE n.id = e.id AND e.tags IS DISTINCT FROM n.tags;
+
+ALTER TABLE event_service.events ENABLE TRIGGER update_events_updated_at;
+
+ALTER TABLE event_service.events
+    ALTER COLUMN tags SET DEFAULT '{}',
+    ALTER COLUMN tags SET NOT NULL;
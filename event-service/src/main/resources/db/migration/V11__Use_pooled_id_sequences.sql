@@ -0,0 +1,14 @@
+-- Hibernate выделяет id блоками по 50 (pooled-оптимизатор, allocationSize = 50) вместо IDENTITY,
+-- что позволяет отправлять INSERT пачками. Шаг последовательностей должен совпадать с allocationSize.
+-- Значение сдвигается за текущий максимум, чтобы первый блок не пересёкся с существующими id.
+-- DEFAULT nextval(...) у столбцов остаётся для вставок из SQL.
+ALTER SEQUENCE event_service.categories_id_seq INCREMENT BY 50;
+ALTER SEQUENCE event_service.events_id_seq INCREMENT BY 50;
+ALTER SEQUENCE event_service.event_applications_id_seq INCREMENT BY 50;
+
+SELECT setval('event_service.categories_id_seq',
+              (SELECT coalesce(max(id), 0) + 50 FROM event_service.categories));
+SELECT setval('event_service.events_id_seq',
+              (SELECT coalesce(max(id), 0) + 50 FROM event_service.events));
+SELECT setval('event_service.event_applications_id_seq',
+              (SELECT coalesce(max(id), 0) + 50 FROM event_service.event_applications));
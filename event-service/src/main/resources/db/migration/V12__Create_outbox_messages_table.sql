@@ -0,0 +1,32 @@
+-- Transactional outbox: сообщения об изменении статусов пишутся в одной транзакции с изменением,
+-- OutboxRelay переносит их в Kafka в порядке id.
+-- Последовательность без пула (INCREMENT BY 1): id задаёт порядок публикации.
+CREATE SEQUENCE IF NOT EXISTS event_service.outbox_messages_id_seq INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS event_service.outbox_messages (
+    id BIGINT PRIMARY KEY DEFAULT nextval('event_service.outbox_messages_id_seq'),
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    partition_key VARCHAR(100) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    topic VARCHAR(255) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    published_at TIMESTAMP WITH TIME ZONE
+);
+
+ALTER SEQUENCE event_service.outbox_messages_id_seq OWNED BY event_service.outbox_messages.id;
+
+-- Очередь на отправку: только неопубликованные строки, индекс остаётся маленьким
+CREATE INDEX IF NOT EXISTS idx_outbox_messages_unpublished
+    ON event_service.outbox_messages (id)
+    WHERE published_at IS NULL;
+
+-- Очистка опубликованных сообщений по сроку хранения
+CREATE INDEX IF NOT EXISTS idx_outbox_messages_published_at
+    ON event_service.outbox_messages (published_at)
+    WHERE published_at IS NOT NULL;
+
+COMMENT ON TABLE event_service.outbox_messages IS 'Исходящие доменные события для публикации в Kafka';
+COMMENT ON COLUMN event_service.outbox_messages.partition_key IS 'Ключ сообщения Kafka (id события): порядок сохраняется в пределах события';
+COMMENT ON COLUMN event_service.outbox_messages.published_at IS 'Момент подтверждения брокером; NULL — ещё не отправлено';
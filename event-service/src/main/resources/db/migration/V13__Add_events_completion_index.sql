@@ -0,0 +1,7 @@
+-- Очередь EventLifecycleJob: опубликованные события по дате окончания.
+-- Частичный индекс содержит только published и не растёт с архивом завершённых событий.
+CREATE INDEX IF NOT EXISTS idx_events_published_end_id
+    ON event_service.events (end_date, id)
+    WHERE status = 'published';
+
+COMMENT ON INDEX event_service.idx_events_published_end_id IS 'Поиск завершившихся опубликованных событий для перевода в completed';
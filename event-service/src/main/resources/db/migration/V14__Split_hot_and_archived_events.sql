@@ -0,0 +1,48 @@
+-- Индексы под фильтры лент и горячий/холодный раздел событий.
+--
+-- Составные индексы (status, start_date, id), (status, category_id, start_date, id) и
+-- (status, event_type, start_date, id) созданы в V7 и покрывают фильтр и сортировку лент.
+-- Частичные индексы WHERE status = 'published' для этих лент не подходят: статус передаётся параметром,
+-- а общий (generic) план подготовленного запроса частичный индекс с условием на параметр не использует.
+
+-- Рекомендуемые события: их мало, условие is_featured константное
+CREATE INDEX IF NOT EXISTS idx_events_featured_status_start_id
+    ON event_service.events (status, start_date, id)
+    WHERE is_featured;
+
+-- Кандидаты в архив: завершённые и отменённые по дате окончания
+CREATE INDEX IF NOT EXISTS idx_events_finished_end_id
+    ON event_service.events (end_date, id)
+    WHERE status IN ('completed', 'cancelled');
+
+-- Одноколоночные индексы перекрываются составными и частичными
+DROP INDEX IF EXISTS event_service.idx_events_status;
+DROP INDEX IF EXISTS event_service.idx_events_start_date;
+DROP INDEX IF EXISTS event_service.idx_events_event_type;
+DROP INDEX IF EXISTS event_service.idx_events_is_featured;
+
+-- Холодные таблицы: события, закончившиеся больше event.archive.retention назад, вместе с заявками.
+-- EventRepository.archiveFinishedEvents копирует строки с явным списком столбцов, поэтому порядок столбцов
+-- не важен. Новые столбцы events и event_applications нужно добавлять и сюда, и в этот список.
+CREATE TABLE IF NOT EXISTS event_service.events_archive
+    (LIKE event_service.events INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+ALTER TABLE event_service.events_archive ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE event_service.events_archive ADD PRIMARY KEY (id);
+ALTER TABLE event_service.events_archive
+    ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now();
+
+CREATE INDEX IF NOT EXISTS idx_events_archive_author_id ON event_service.events_archive (author_id);
+CREATE INDEX IF NOT EXISTS idx_events_archive_end_date ON event_service.events_archive (end_date);
+
+CREATE TABLE IF NOT EXISTS event_service.event_applications_archive
+    (LIKE event_service.event_applications INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+ALTER TABLE event_service.event_applications_archive ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE event_service.event_applications_archive ADD PRIMARY KEY (id);
+ALTER TABLE event_service.event_applications_archive
+    ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now();
+
+CREATE INDEX IF NOT EXISTS idx_event_applications_archive_event_id ON event_service.event_applications_archive (event_id);
+CREATE INDEX IF NOT EXISTS idx_event_applications_archive_user_id ON event_service.event_applications_archive (user_id);
+
+COMMENT ON TABLE event_service.events_archive IS 'Архив завершённых и отменённых событий';
+COMMENT ON TABLE event_service.event_applications_archive IS 'Заявки архивных событий';
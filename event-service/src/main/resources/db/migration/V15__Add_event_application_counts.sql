@@ -0,0 +1,84 @@
+-- Число заявок события по статусам. Поддерживается триггерами на event_applications в той же транзакции,
+-- что и изменение заявки, поэтому дашборд организатора читает готовые числа вместо COUNT(*).
+-- Триггеры уровня оператора: пачка INSERT или UPDATE даёт одно обновление на пару (событие, статус).
+-- Строки удаляются вместе с событием. При каскадном удалении заявок триггер только уменьшает и удаляет
+-- строки счётчика и не вставляет новые, поэтому внешний ключ не мешает удалению события.
+-- Отрицательный счётчик — ошибка учёта: CHECK отклоняет такое изменение, а не скрывает его.
+CREATE TABLE IF NOT EXISTS event_service.event_application_counts (
+    event_id BIGINT NOT NULL REFERENCES event_service.events(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    count INTEGER NOT NULL CHECK (count >= 0),
+    PRIMARY KEY (event_id, status)
+);
+
+COMMENT ON TABLE event_service.event_application_counts IS 'Количество заявок события по статусам';
+
+-- Прибавить приросты (event_id, status, delta); пары в порядке ключа, чтобы параллельные пачки не взаимоблокировались
+CREATE OR REPLACE FUNCTION event_service.apply_application_count_deltas()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO event_service.event_application_counts AS c (event_id, status, count)
+        SELECT event_id, status, count(*)
+        FROM new_rows
+        GROUP BY event_id, status
+        ORDER BY event_id, status
+        ON CONFLICT (event_id, status) DO UPDATE SET count = c.count + EXCLUDED.count;
+    ELSIF TG_OP = 'UPDATE' THEN
+        INSERT INTO event_service.event_application_counts AS c (event_id, status, count)
+        SELECT event_id, status, sum(delta)
+        FROM (
+            SELECT n.event_id, n.status, 1 AS delta
+            FROM new_rows n JOIN old_rows o ON o.id = n.id
+            WHERE o.status IS DISTINCT FROM n.status OR o.event_id IS DISTINCT FROM n.event_id
+            UNION ALL
+            SELECT o.event_id, o.status, -1 AS delta
+            FROM new_rows n JOIN old_rows o ON o.id = n.id
+            WHERE o.status IS DISTINCT FROM n.status OR o.event_id IS DISTINCT FROM n.event_id
+        ) d
+        GROUP BY event_id, status
+        HAVING sum(delta) <> 0
+        ORDER BY event_id, status
+        ON CONFLICT (event_id, status) DO UPDATE SET count = c.count + EXCLUDED.count;
+    ELSE
+        UPDATE event_service.event_application_counts c
+        SET count = c.count - d.count
+        FROM (
+            SELECT event_id, status, count(*) AS count
+            FROM old_rows
+            GROUP BY event_id, status
+        ) d
+        WHERE c.event_id = d.event_id AND c.status = d.status;
+
+        DELETE FROM event_service.event_application_counts c
+        USING (SELECT DISTINCT event_id, status FROM old_rows) d
+        WHERE c.event_id = d.event_id AND c.status = d.status AND c.count = 0;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER event_application_counts_insert
+    AFTER INSERT ON event_service.event_applications
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION event_service.apply_application_count_deltas();
+
+CREATE TRIGGER event_application_counts_update
+    AFTER UPDATE ON event_service.event_applications
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION event_service.apply_application_count_deltas();
+
+CREATE TRIGGER event_application_counts_delete
+    AFTER DELETE ON event_service.event_applications
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION event_service.apply_application_count_deltas();
+
+-- Начальное заполнение
+INSERT INTO event_service.event_application_counts (event_id, status, count)
+SELECT event_id, status, count(*)
+FROM event_service.event_applications
+GROUP BY event_id, status
+ON CONFLICT (event_id, status) DO UPDATE SET count = EXCLUDED.count;
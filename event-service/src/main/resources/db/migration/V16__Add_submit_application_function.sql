@@ -0,0 +1,148 @@
+-- Подача заявки одним вызовом: повтор по ключу идемпотентности, проверка дубликата, занятие места,
+-- вставка заявки и сообщения в outbox выполняются на сервере за один round trip.
+
+ALTER TABLE event_service.event_applications
+    ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(100);
+
+COMMENT ON COLUMN event_service.event_applications.idempotency_key IS 'Ключ идемпотентности запроса подачи заявки (заголовок Idempotency-Key)';
+
+-- Ключ уникален в пределах пользователя: повтор запроса находит уже созданную заявку
+CREATE UNIQUE INDEX IF NOT EXISTS idx_event_applications_user_idempotency_key
+    ON event_service.event_applications (user_id, idempotency_key)
+    WHERE idempotency_key IS NOT NULL;
+
+-- Архив заявок (V14) хранит те же столбцы
+ALTER TABLE event_service.event_applications_archive ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(100);
+
+-- Результат (outcome):
+--   created             — заявка создана;
+--   replayed            — заявка с этим ключом на это же событие уже создана раньше, возвращается её id;
+--   key_conflict        — ключ уже использован пользователем для заявки на другое событие;
+--   already_applied     — у пользователя уже есть действующая заявка на событие, возвращается её id;
+--   event_not_found     — события нет;
+--   registration_closed — событие не опубликовано, уже началось или срок регистрации истёк;
+--   event_full          — свободных мест нет.
+-- Место занимается условным UPDATE, как в EventRepository.tryReserveSeat; строка события блокируется
+-- только до конца транзакции, которая состоит из одного этого вызова.
+-- id заявки берётся из DEFAULT nextval: при шаге последовательности 50 (V11) каждая вставка отсюда
+-- расходует блок из 50 значений. Это осознанно: с блоками Hibernate id не пересекаются,
+-- а запаса BIGINT хватает с избытком.
+CREATE OR REPLACE FUNCTION event_service.submit_application(
+    p_event_id BIGINT,
+    p_user_id BIGINT,
+    p_message TEXT,
+    p_contact_info JSONB,
+    p_idempotency_key VARCHAR,
+    p_claim_seat BOOLEAN,
+    p_topic VARCHAR
+)
+RETURNS TABLE (outcome VARCHAR, application_id BIGINT)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_id BIGINT;
+    v_event_id BIGINT;
+    v_status VARCHAR;
+    v_open BOOLEAN;
+BEGIN
+    IF p_idempotency_key IS NOT NULL THEN
+        SELECT a.id, a.event_id INTO v_id, v_event_id
+        FROM event_service.event_applications a
+        WHERE a.user_id = p_user_id AND a.idempotency_key = p_idempotency_key;
+        IF FOUND THEN
+            IF v_event_id <> p_event_id THEN
+                RETURN QUERY SELECT CAST('key_conflict' AS VARCHAR), CAST(NULL AS BIGINT);
+            ELSE
+                RETURN QUERY SELECT CAST('replayed' AS VARCHAR), v_id;
+            END IF;
+            RETURN;
+        END IF;
+    END IF;
+
+    SELECT a.id INTO v_id
+    FROM event_service.event_applications a
+    WHERE a.event_id = p_event_id AND a.user_id = p_user_id AND a.status IN ('pending', 'approved');
+    IF FOUND THEN
+        RETURN QUERY SELECT CAST('already_applied' AS VARCHAR), v_id;
+        RETURN;
+    END IF;
+
+    IF p_claim_seat THEN
+        UPDATE event_service.events e
+        SET current_participants = e.current_participants + 1
+        WHERE e.id = p_event_id
+          AND e.status = 'published'
+          AND e.start_date > now()
+          AND (e.registration_deadline IS NULL OR e.registration_deadline > now())
+          AND (e.max_participants IS NULL OR e.current_participants < e.max_participants);
+        v_open := FOUND;
+    ELSE
+        PERFORM 1
+        FROM event_service.events e
+        WHERE e.id = p_event_id
+          AND e.status = 'published'
+          AND e.start_date > now()
+          AND (e.registration_deadline IS NULL OR e.registration_deadline > now());
+        v_open := FOUND;
+    END IF;
+
+    IF NOT v_open THEN
+        SELECT CASE
+                   WHEN e.status <> 'published'
+                       OR e.start_date <= now()
+                       OR (e.registration_deadline IS NOT NULL AND e.registration_deadline <= now())
+                       THEN 'registration_closed'
+                   ELSE 'event_full'
+               END
+        INTO v_status
+        FROM event_service.events e
+        WHERE e.id = p_event_id;
+        RETURN QUERY SELECT CAST(coalesce(v_status, 'event_not_found') AS VARCHAR), CAST(NULL AS BIGINT);
+        RETURN;
+    END IF;
+
+    -- Параллельная заявка могла пройти проверки раньше: уникальные индексы отсекают её без исключения
+    INSERT INTO event_service.event_applications
+        (event_id, user_id, status, seat_reserved, message, contact_info, idempotency_key)
+    VALUES (p_event_id, p_user_id, 'pending', p_claim_seat, p_message, p_contact_info, p_idempotency_key)
+    ON CONFLICT DO NOTHING
+    RETURNING id INTO v_id;
+
+    IF v_id IS NULL THEN
+        IF p_claim_seat THEN
+            UPDATE event_service.events e
+            SET current_participants = e.current_participants - 1
+            WHERE e.id = p_event_id AND e.current_participants > 0;
+        END IF;
+
+        IF p_idempotency_key IS NOT NULL THEN
+            SELECT a.id, a.event_id INTO v_id, v_event_id
+            FROM event_service.event_applications a
+            WHERE a.user_id = p_user_id AND a.idempotency_key = p_idempotency_key;
+            IF FOUND THEN
+                IF v_event_id <> p_event_id THEN
+                    RETURN QUERY SELECT CAST('key_conflict' AS VARCHAR), CAST(NULL AS BIGINT);
+                ELSE
+                    RETURN QUERY SELECT CAST('replayed' AS VARCHAR), v_id;
+                END IF;
+                RETURN;
+            END IF;
+        END IF;
+
+        SELECT a.id INTO v_id
+        FROM event_service.event_applications a
+        WHERE a.event_id = p_event_id AND a.user_id = p_user_id AND a.status IN ('pending', 'approved');
+        RETURN QUERY SELECT CAST('already_applied' AS VARCHAR), v_id;
+        RETURN;
+    END IF;
+
+    INSERT INTO event_service.outbox_messages
+        (aggregate_type, aggregate_id, partition_key, event_type, topic, payload, created_at)
+    VALUES ('event_application', v_id, p_event_id::text, 'ApplicationStatusChanged', p_topic,
+            jsonb_build_object('applicationId', v_id, 'eventId', p_event_id, 'userId', p_user_id,
+                               'previousStatus', NULL, 'status', 'pending', 'occurredAt', now()),
+            now());
+
+    RETURN QUERY SELECT CAST('created' AS VARCHAR), v_id;
+END;
+$$;
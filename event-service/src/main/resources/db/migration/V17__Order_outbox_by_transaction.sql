@@ -0,0 +1,14 @@
+-- Порядок id не совпадает с порядком коммитов: транзакция, взявшая id раньше, может зафиксироваться позже,
+-- и OutboxRelay успел бы отправить более позднее сообщение того же события первым.
+-- Каждая строка запоминает id своей транзакции; OutboxRelay берёт только строки транзакций старше xmin
+-- текущего снимка (все они уже завершены) и отправляет их в порядке (txid, id).
+ALTER TABLE event_service.outbox_messages
+    ADD COLUMN IF NOT EXISTS txid xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+DROP INDEX IF EXISTS event_service.idx_outbox_messages_unpublished;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_messages_unpublished
+    ON event_service.outbox_messages (txid, id)
+    WHERE published_at IS NULL;
+
+COMMENT ON COLUMN event_service.outbox_messages.txid IS 'Транзакция, записавшая сообщение: задаёт порядок отправки';
@@ -0,0 +1,8 @@
+-- Индекс для поиска опубликованных событий рядом с точкой.
+-- Выражение point(longitude, latitude) должно совпадать с запросом EventRepository.findNearbyPublishedEvents,
+-- иначе планировщик индекс не использует.
+CREATE INDEX IF NOT EXISTS idx_events_published_geo
+    ON event_service.events USING GIST (point(longitude::double precision, latitude::double precision))
+    WHERE status = 'published' AND latitude IS NOT NULL AND longitude IS NOT NULL;
+
+COMMENT ON INDEX event_service.idx_events_published_geo IS 'Поиск опубликованных событий в прямоугольнике координат';
@@ -0,0 +1,44 @@
+-- Полнотекстовый поиск по событиям: tsvector по названию, тегам и описанию (русская и английская морфология)
+-- и триграммный индекс по названию для поиска с опечатками.
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+ALTER TABLE event_service.events ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+COMMENT ON COLUMN event_service.events.search_vector IS 'Поисковый вектор (заполняется триггером)';
+
+-- Вес A — название, B — теги, C — описание
+CREATE OR REPLACE FUNCTION event_service.events_search_document(title TEXT, description TEXT, tags TEXT[])
+RETURNS tsvector AS $$
+    SELECT setweight(to_tsvector('pg_catalog.russian', coalesce(title, '')), 'A') ||
+           setweight(to_tsvector('pg_catalog.english', coalesce(title, '')), 'A') ||
+           setweight(to_tsvector('pg_catalog.simple', coalesce(array_to_string(tags, ' '), '')), 'B') ||
+           setweight(to_tsvector('pg_catalog.russian', coalesce(description, '')), 'C') ||
+           setweight(to_tsvector('pg_catalog.english', coalesce(description, '')), 'C');
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION event_service.update_events_search_vector()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector = event_service.events_search_document(NEW.title, NEW.description, NEW.tags);
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER update_events_search_vector
+    BEFORE INSERT OR UPDATE OF title, description, tags ON event_service.events
+    FOR EACH ROW
+    EXECUTE FUNCTION event_service.update_events_search_vector();
+
+-- Заполнение существующих строк без изменения updated_at
+ALTER TABLE event_service.events DISABLE TRIGGER update_events_updated_at;
+UPDATE event_service.events
+SET search_vector = event_service.events_search_document(title, description, tags);
+ALTER TABLE event_service.events ENABLE TRIGGER update_events_updated_at;
+
+CREATE INDEX IF NOT EXISTS idx_events_search_vector
+    ON event_service.events USING GIN (search_vector)
+    WHERE status = 'published';
+
+CREATE INDEX IF NOT EXISTS idx_events_title_trgm
+    ON event_service.events USING GIN (title public.gin_trgm_ops)
+    WHERE status = 'published';
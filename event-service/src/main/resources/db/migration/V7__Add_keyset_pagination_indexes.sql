@@ -0,0 +1,25 @@
+-- Составные индексы под keyset-пагинацию: фильтр, затем ключ сортировки и id как уникальный хвост.
+-- Каждая страница читает ровно size + 1 строк индекса, независимо от глубины.
+CREATE INDEX IF NOT EXISTS idx_events_status_start_id
+    ON event_service.events(status, start_date, id);
+CREATE INDEX IF NOT EXISTS idx_events_status_category_start_id
+    ON event_service.events(status, category_id, start_date, id);
+CREATE INDEX IF NOT EXISTS idx_events_status_type_start_id
+    ON event_service.events(status, event_type, start_date, id);
+CREATE INDEX IF NOT EXISTS idx_events_author_created_id
+    ON event_service.events(author_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_event_applications_event_date_id
+    ON event_service.event_applications(event_id, application_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_event_applications_user_date_id
+    ON event_service.event_applications(user_id, application_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_event_applications_status_date_id
+    ON event_service.event_applications(status, application_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_event_applications_reviewer_date_id
+    ON event_service.event_applications(reviewed_by, review_date DESC, id DESC)
+    WHERE reviewed_by IS NOT NULL;
+
+-- Одноколоночные индексы перекрываются составными
+DROP INDEX IF EXISTS event_service.idx_events_author_id;
+DROP INDEX IF EXISTS event_service.idx_event_applications_user_id;
+DROP INDEX IF EXISTS event_service.idx_event_applications_reviewed_by;
@@ -0,0 +1,48 @@
+-- Места на событие занимаются атомарным условным UPDATE при подаче заявки (SeatReservationService)
+-- и освобождаются при отклонении или отмене. Триггеры V3, пересчитывающие current_participants
+-- через COUNT(*) по одобренным заявкам, перезаписывали бы этот счётчик, поэтому удаляются.
+ALTER TABLE event_service.event_applications
+    ADD COLUMN IF NOT EXISTS seat_reserved BOOLEAN NOT NULL DEFAULT false;
+
+COMMENT ON COLUMN event_service.event_applications.seat_reserved IS 'Занимает ли заявка место на событии';
+
+DROP TRIGGER IF EXISTS update_participants_on_insert ON event_service.event_applications;
+DROP TRIGGER IF EXISTS update_participants_on_update ON event_service.event_applications;
+DROP TRIGGER IF EXISTS update_participants_on_delete ON event_service.event_applications;
+DROP FUNCTION IF EXISTS event_service.update_event_participants_count();
+
+-- Действующие заявки занимают место, но не больше max_participants: триггеры V3 считали только
+-- одобренные заявки, поэтому вместе с ожидающими их может оказаться больше лимита.
+-- Сначала места получают одобренные заявки, затем остальные по дате подачи; лишние остаются без места.
+UPDATE event_service.event_applications ea
+SET seat_reserved = true
+FROM (
+    SELECT a.id,
+           e.max_participants,
+           row_number() OVER (
+               PARTITION BY a.event_id
+               ORDER BY (a.status = 'approved') DESC, a.application_date, a.id
+           ) AS seat_rank
+    FROM event_service.event_applications a
+    JOIN event_service.events e ON e.id = a.event_id
+    WHERE a.status IN ('pending', 'approved')
+) r
+WHERE ea.id = r.id
+  AND (r.max_participants IS NULL OR r.seat_rank <= r.max_participants);
+
+UPDATE event_service.events e
+SET current_participants = coalesce(r.reserved, 0)
+FROM (
+    SELECT ev.id, count(ea.id) FILTER (WHERE ea.seat_reserved) AS reserved
+    FROM event_service.events ev
+    LEFT JOIN event_service.event_applications ea ON ea.event_id = ev.id
+    GROUP BY ev.id
+) r
+WHERE r.id = e.id AND e.current_participants IS DISTINCT FROM coalesce(r.reserved, 0);
+
+ALTER TABLE event_service.events
+    ADD CONSTRAINT chk_events_participants_limit
+-- Счётчики уже пересчитаны в пределах лимита, поэтому ограничение проверяется сразу по всем строкам
+    CHECK (current_participants >= 0 AND (max_participants IS NULL OR current_participants <= max_participants));
+
+COMMENT ON COLUMN event_service.events.current_participants IS 'Количество занятых мест (действующие заявки)';
@@ -0,0 +1,17 @@
+-- Просмотры пишутся пачками (EventViewCounter) и не должны сдвигать updated_at:
+-- триггер перечисляет все столбцы, кроме views_count и updated_at (как update_events_search_vector в V6),
+-- поэтому UPDATE только views_count не вызывает функцию триггера и не сравнивает строки целиком.
+-- Новый столбец events, изменение которого должно сдвигать updated_at, нужно добавить в этот список.
+DROP TRIGGER IF EXISTS update_events_updated_at ON event_service.events;
+
+CREATE TRIGGER update_events_updated_at
+    BEFORE UPDATE OF title, description, content, category_id, image_url, status, event_type,
+        max_participants, current_participants, age_restriction, location_name, location_address,
+        latitude, longitude, online_url, start_date, end_date, registration_deadline, author_id,
+        is_featured, tags, created_at, published_at, search_vector
+    ON event_service.events
+    FOR EACH ROW
+    EXECUTE FUNCTION event_service.update_updated_at_column();
+
+-- Частые обновления одного столбца: запас места на странице для HOT-обновлений без записи в индексы
+ALTER TABLE event_service.events SET (fillfactor = 90);
@@ -0,0 +1,67 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.counts;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventApplicationRepository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationCountServiceTest {
+
+    @Mock
+    EventApplicationRepository applicationRepository;
+
+    ApplicationCountService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ApplicationCountService(applicationRepository);
+    }
+
+    @Test
+    void countsByEvent_groupsStatusesAndFillsMissingEventsWithZeros() {
+        List<EventApplicationRepository.StatusCountRow> rows = List.of(
+                countRow(1L, "pending", 4),
+                countRow(1L, "approved", 10),
+                countRow(3L, "rejected", 2),
+                countRow(3L, "cancelled", 1));
+        when(applicationRepository.findStatusCounts(aryEq(new Long[]{3L, 1L, 2L}))).thenReturn(rows);
+
+        Map<Long, ApplicationCounts> counts = service.countsByEvent(List.of(3L, 1L, 2L, 1L));
+
+        assertEquals(List.of(3L, 1L, 2L), List.copyOf(counts.keySet()));
+        assertEquals(new ApplicationCounts(1L, 4, 10, 0, 0), counts.get(1L));
+        assertEquals(ApplicationCounts.empty(2L), counts.get(2L));
+        assertEquals(3, counts.get(3L).total());
+        verify(applicationRepository, times(1)).findStatusCounts(any());
+    }
+
+    @Test
+    void countsByEvent_tooManyEvents_throws() {
+        List<Long> ids = LongStream.rangeClosed(1, ApplicationCountService.MAX_EVENTS + 1).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> service.countsByEvent(ids));
+        assertThrows(IllegalArgumentException.class, () -> service.countsByEvent(Collections.emptyList()));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    private static EventApplicationRepository.StatusCountRow countRow(Long eventId, String status, int count) {
+        EventApplicationRepository.StatusCountRow row = mock(EventApplicationRepository.StatusCountRow.class);
+        when(row.getEventId()).thenReturn(eventId);
+        when(row.getStatus()).thenReturn(status);
+        when(row.getCount()).thenReturn(count);
+        return row;
+    }
+}
@@ -0,0 +1,26 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.export;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApplicationExportServiceTest {
+
+    @Test
+    void csvText_prefixesFormulaTriggersAndQuotes() {
+        assertEquals("\"'=HYPERLINK(\"\"http://x\"\")\"", ApplicationExportService.csvText("=HYPERLINK(\"http://x\")"));
+        assertEquals("\"'+1\"", ApplicationExportService.csvText("+1"));
+        assertEquals("\"'-1\"", ApplicationExportService.csvText("-1"));
+        assertEquals("\"'@SUM(A1)\"", ApplicationExportService.csvText("@SUM(A1)"));
+        assertEquals("\"'\t=1\"", ApplicationExportService.csvText("\t=1"));
+        assertEquals("\"'\r=1\"", ApplicationExportService.csvText("\r=1"));
+    }
+
+    @Test
+    void csvText_leavesPlainTextAsCsv() {
+        assertEquals("", ApplicationExportService.csvText(null));
+        assertEquals("hello", ApplicationExportService.csvText("hello"));
+        assertEquals("\"a, b\"", ApplicationExportService.csvText("a, b"));
+        assertEquals("x=1", ApplicationExportService.csvText("x=1"));
+    }
+}
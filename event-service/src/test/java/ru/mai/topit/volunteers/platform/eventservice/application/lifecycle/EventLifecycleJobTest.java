@@ -0,0 +1,103 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.lifecycle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.EventLifecycleProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.OutboxProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.redis.RedisLease;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventRepository;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventLifecycleJobTest {
+
+    @Mock
+    EventRepository eventRepository;
+    @Mock
+    RedisLease lease;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    EventLifecycleProperties properties;
+    SimpleMeterRegistry meterRegistry;
+    EventLifecycleJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EventLifecycleProperties();
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(10);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new EventLifecycleJob(eventRepository, lease, properties, new OutboxProperties(),
+                transactionManager, meterRegistry);
+    }
+
+    @Test
+    void completeEndedEvents_drainsBatchesAndRecordsMetrics() {
+        leaseGranted();
+        List<EventRepository.CompletedEventRow> fullBatch = rows(2);
+        List<EventRepository.CompletedEventRow> lastBatch = rows(1);
+        when(eventRepository.completeEndedEvents(2, "event-service.events"))
+                .thenReturn(fullBatch)
+                .thenReturn(lastBatch);
+        when(eventRepository.findCompletionBacklogSeconds()).thenReturn(0L);
+
+        int completed = job.completeEndedEvents();
+
+        assertEquals(3, completed);
+        assertEquals(3.0, meterRegistry.get("event.lifecycle.completed").counter().count());
+        assertEquals(2, meterRegistry.get("event.lifecycle.batch.size").summary().count());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void completeEndedEvents_stopsAtMaxBatchesPerRun() {
+        properties.setMaxBatchesPerRun(3);
+        leaseGranted();
+        List<EventRepository.CompletedEventRow> fullBatch = rows(2);
+        when(eventRepository.completeEndedEvents(anyInt(), anyString())).thenReturn(fullBatch);
+        when(eventRepository.findCompletionBacklogSeconds()).thenReturn(120L);
+
+        int completed = job.completeEndedEvents();
+
+        assertEquals(6, completed);
+        verify(eventRepository, times(3)).completeEndedEvents(anyInt(), anyString());
+        assertEquals(120.0, meterRegistry.get("event.lifecycle.backlog.seconds").gauge().value());
+    }
+
+    @Test
+    void completeEndedEvents_leaseNotTaken_doesNothing() {
+        when(lease.runLeased(anyString(), any(), any())).thenReturn(false);
+
+        int completed = job.completeEndedEvents();
+
+        assertEquals(0, completed);
+        verifyNoInteractions(eventRepository);
+    }
+
+    private void leaseGranted() {
+        when(lease.runLeased(eq(properties.getLeaseKey()), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+    }
+
+    private static List<EventRepository.CompletedEventRow> rows(int count) {
+        EventRepository.CompletedEventRow row = mock(EventRepository.CompletedEventRow.class);
+        when(row.getLagSeconds()).thenReturn(30L);
+        return Collections.nCopies(count, row);
+    }
+}
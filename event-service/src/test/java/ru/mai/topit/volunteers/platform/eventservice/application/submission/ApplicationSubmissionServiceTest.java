@@ -0,0 +1,88 @@
+package ru.mai.topit.volunteers.platform.eventservice.application.submission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.ApplicationAlreadyExistsException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventFullException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.EventNotFoundException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.IdempotencyKeyConflictException;
+import ru.mai.topit.volunteers.platform.eventservice.application.exception.RegistrationClosedException;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.OutboxProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.EventApplicationRepository;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationSubmissionServiceTest {
+
+    @Mock
+    EventApplicationRepository applicationRepository;
+
+    ApplicationSubmissionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ApplicationSubmissionService(applicationRepository, new OutboxProperties(), new ObjectMapper());
+    }
+
+    @Test
+    void submit_passesContactInfoAsJsonAndClaimsSeat() {
+        EventApplicationRepository.SubmissionRow row = submissionRow("created", 77L);
+        when(applicationRepository.submitApplication(1L, 5L, "hi", "{\"phone\":\"123\"}", "key-1", true,
+                "event-service.applications")).thenReturn(row);
+
+        var result = service.submit(1L, 5L, "hi", Map.of("phone", "123"), "key-1");
+
+        assertEquals(SubmissionOutcome.CREATED, result.outcome());
+        assertEquals(77L, result.applicationId());
+    }
+
+    @Test
+    void submit_replayedKey_returnsExistingApplication() {
+        EventApplicationRepository.SubmissionRow row = submissionRow("replayed", 77L);
+        when(applicationRepository.submitApplication(1L, 5L, null, null, "key-1", true,
+                "event-service.applications")).thenReturn(row);
+
+        var result = service.submit(1L, 5L, null, null, "key-1");
+
+        assertEquals(SubmissionOutcome.REPLAYED, result.outcome());
+        assertEquals(77L, ApplicationSubmissionService.requireAccepted(result, 1L, 5L));
+    }
+
+    @Test
+    void submit_tooLongIdempotencyKey_throws() {
+        String key = "k".repeat(ApplicationSubmissionService.MAX_IDEMPOTENCY_KEY_LENGTH + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> service.submit(1L, 5L, null, null, key));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void requireAccepted_mapsRejectedOutcomesToExceptions() {
+        assertThrows(ApplicationAlreadyExistsException.class, () -> ApplicationSubmissionService.requireAccepted(
+                new ApplicationSubmissionService.SubmissionResult(SubmissionOutcome.ALREADY_APPLIED, 3L), 1L, 5L));
+        assertThrows(EventNotFoundException.class, () -> ApplicationSubmissionService.requireAccepted(
+                new ApplicationSubmissionService.SubmissionResult(SubmissionOutcome.EVENT_NOT_FOUND, null), 1L, 5L));
+        assertThrows(RegistrationClosedException.class, () -> ApplicationSubmissionService.requireAccepted(
+                new ApplicationSubmissionService.SubmissionResult(SubmissionOutcome.REGISTRATION_CLOSED, null), 1L, 5L));
+        assertThrows(EventFullException.class, () -> ApplicationSubmissionService.requireAccepted(
+                new ApplicationSubmissionService.SubmissionResult(SubmissionOutcome.EVENT_FULL, null), 1L, 5L));
+        assertThrows(IdempotencyKeyConflictException.class, () -> ApplicationSubmissionService.requireAccepted(
+                new ApplicationSubmissionService.SubmissionResult(SubmissionOutcome.KEY_CONFLICT, null), 1L, 5L));
+    }
+
+    private static EventApplicationRepository.SubmissionRow submissionRow(String outcome, Long applicationId) {
+        EventApplicationRepository.SubmissionRow row = mock(EventApplicationRepository.SubmissionRow.class);
+        when(row.getOutcome()).thenReturn(outcome);
+        when(row.getApplicationId()).thenReturn(applicationId);
+        return row;
+    }
+}
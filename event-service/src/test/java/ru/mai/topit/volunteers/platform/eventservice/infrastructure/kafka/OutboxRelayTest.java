@@ -0,0 +1,131 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.kafka;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.mai.topit.volunteers.platform.eventservice.domain.OutboxMessage;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.config.OutboxProperties;
+import ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository.OutboxMessageRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    OutboxMessageRepository outboxRepository;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    OutboxProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setBatchSize(10);
+        properties.setSendTimeoutMillis(200);
+    }
+
+    @Test
+    void relay_sendsBatchInOrderKeyedByEventAndMarksPublished() {
+        MockProducer<String, String> producer = producer(true);
+        when(outboxRepository.tryLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(true);
+        when(outboxRepository.findUnpublished(10)).thenReturn(List.of(
+                message(1L, "42", "EventStatusChanged"),
+                message(2L, "42", "ApplicationStatusChanged"),
+                message(3L, "7", "EventStatusChanged")));
+
+        int sent = relay(producer).relay();
+
+        assertEquals(3, sent);
+        List<ProducerRecord<String, String>> history = producer.history();
+        assertEquals(List.of("42", "42", "7"), history.stream().map(ProducerRecord::key).toList());
+        assertEquals("1", header(history.get(0), OutboxRelay.OUTBOX_ID_HEADER));
+        assertEquals("ApplicationStatusChanged", header(history.get(1), OutboxRelay.EVENT_TYPE_HEADER));
+        verify(outboxRepository).markPublished(aryEq(new Long[]{1L, 2L, 3L}), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void relay_fullBatch_drainsNextBatch() {
+        properties.setBatchSize(2);
+        MockProducer<String, String> producer = producer(true);
+        when(outboxRepository.tryLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(true);
+        when(outboxRepository.findUnpublished(2))
+                .thenReturn(List.of(message(1L, "1", "EventStatusChanged"), message(2L, "1", "EventStatusChanged")))
+                .thenReturn(List.of(message(3L, "1", "EventStatusChanged")));
+
+        int sent = relay(producer).relay();
+
+        assertEquals(3, sent);
+        assertEquals(3, producer.history().size());
+        verify(outboxRepository, times(2)).markPublished(any(), any());
+    }
+
+    @Test
+    void relay_lockHeldByAnotherNode_sendsNothing() {
+        MockProducer<String, String> producer = producer(true);
+        when(outboxRepository.tryLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(false);
+
+        int sent = relay(producer).relay();
+
+        assertEquals(0, sent);
+        assertEquals(0, producer.history().size());
+        verify(outboxRepository, never()).findUnpublished(anyInt());
+    }
+
+    @Test
+    void relay_brokerDoesNotAcknowledge_rollsBackAndKeepsMessagesUnpublished() {
+        MockProducer<String, String> producer = producer(false);
+        when(outboxRepository.tryLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(true);
+        when(outboxRepository.findUnpublished(10)).thenReturn(List.of(message(1L, "42", "EventStatusChanged")));
+
+        int sent = relay(producer).relay();
+
+        assertEquals(0, sent);
+        verify(outboxRepository, never()).markPublished(any(), any());
+        verify(transactionManager).rollback(any());
+    }
+
+    private OutboxRelay relay(MockProducer<String, String> producer) {
+        KafkaTemplate<String, String> template = new KafkaTemplate<>(new MockProducerFactory<>(() -> producer));
+        return new OutboxRelay(outboxRepository, template, properties, transactionManager);
+    }
+
+    // KafkaTemplate закрывает продюсер после каждой отправки, один MockProducer должен это пережить
+    private static MockProducer<String, String> producer(boolean autoComplete) {
+        return new MockProducer<>(autoComplete, new StringSerializer(), new StringSerializer()) {
+            @Override
+            public void close(Duration timeout) {
+            }
+        };
+    }
+
+    private static OutboxMessage message(Long id, String key, String eventType) {
+        return OutboxMessage.builder()
+                .id(id)
+                .partitionKey(key)
+                .eventType(eventType)
+                .topic("event-service.events")
+                .payload("{\"id\":" + id + "}")
+                .build();
+    }
+
+    private static String header(ProducerRecord<String, String> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,86 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLeaseTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Mock
+    StringRedisTemplate redisTemplate;
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    RedisLease lease;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lease = new RedisLease(redisTemplate);
+    }
+
+    @Test
+    void runLeased_acquired_runsTaskAndReleases() {
+        when(valueOperations.setIfAbsent(eq("job"), anyString(), eq(TTL))).thenReturn(true);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertTrue(lease.runLeased("job", TTL, () -> ran.set(true)));
+
+        assertTrue(ran.get());
+        verify(redisTemplate).execute(any(), eq(List.of("job")), anyString());
+    }
+
+    @Test
+    void runLeased_heldByAnotherNode_skipsTask() {
+        when(valueOperations.setIfAbsent(eq("job"), anyString(), eq(TTL))).thenReturn(false);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertFalse(lease.runLeased("job", TTL, () -> ran.set(true)));
+
+        assertFalse(ran.get());
+        verify(redisTemplate).opsForValue();
+        verifyNoMoreInteractions(redisTemplate);
+    }
+
+    @Test
+    void runLeased_redisUnavailable_skipsTask() {
+        when(valueOperations.setIfAbsent(eq("job"), anyString(), eq(TTL)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertFalse(lease.runLeased("job", TTL, () -> ran.set(true)));
+
+        assertFalse(ran.get());
+    }
+
+    @Test
+    void runLeased_taskFails_stillReleases() {
+        when(valueOperations.setIfAbsent(eq("job"), anyString(), eq(TTL))).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> lease.runLeased("job", TTL, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        verify(redisTemplate).execute(any(), eq(List.of("job")), anyString());
+    }
+}
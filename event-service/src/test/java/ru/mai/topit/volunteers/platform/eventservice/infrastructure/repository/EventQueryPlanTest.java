@@ -0,0 +1,216 @@
+package ru.mai.topit.volunteers.platform.eventservice.infrastructure.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Регрессия планов запросов {@link EventRepository}: ни один запрос лент не должен читать events
+ * последовательным сканированием. Запросы берутся из аннотаций {@link Query} и готовятся через PREPARE;
+ * при {@code plan_cache_mode = force_generic_plan} EXPLAIN EXECUTE показывает общий план, не зависящий
+ * от значений параметров, — такой план PostgreSQL выбирает для подготовленных операторов драйвера.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EventQueryPlanTest {
+
+    private static final Pattern PARAMETER = Pattern.compile("(?<![:\\w]):(\\w+)");
+
+    private static final String SEED = """
+            WITH cats AS (
+                SELECT array_agg(id ORDER BY id) AS ids FROM event_service.categories
+            )
+            INSERT INTO event_service.events (title, description, category_id, status, event_type,
+                                              start_date, end_date, author_id, is_featured, tags)
+            SELECT 'Событие ' || g,
+                   'Описание события ' || g,
+                   cats.ids[1 + g % array_length(cats.ids, 1)],
+                   CASE WHEN g % 10 < 7 THEN 'published'
+                        WHEN g % 10 = 7 THEN 'draft'
+                        WHEN g % 10 = 8 THEN 'completed'
+                        ELSE 'cancelled' END,
+                   CASE WHEN g % 3 = 0 THEN 'online' ELSE 'offline' END,
+                   CASE WHEN g % 10 < 8 THEN now() + (g % 365) * interval '1 day'
+                        ELSE now() - (30 + g % 700) * interval '1 day' END,
+                   CASE WHEN g % 10 < 8 THEN now() + (g % 365) * interval '1 day' + interval '3 hours'
+                        ELSE now() - (30 + g % 700) * interval '1 day' + interval '3 hours' END,
+                   1 + g % 1000,
+                   g % 200 = 0,
+                   ARRAY['tag' || (g % 50), 'tag' || (g % 7)]
+            FROM generate_series(1, 30000) AS g, cats
+            """;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.0")
+            .withDatabaseName("eventservice_db")
+            .withUsername("eventservice")
+            .withPassword("password");
+
+    static Connection connection;
+    static long categoryId;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .schemas("event_service")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(SEED);
+            statement.execute("ANALYZE event_service.events");
+            statement.execute("SET plan_cache_mode = force_generic_plan");
+            try (ResultSet rs = statement.executeQuery("SELECT min(id) FROM event_service.categories")) {
+                rs.next();
+                categoryId = rs.getLong(1);
+            }
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void findCardPageByStatus_usesIndex() throws Exception {
+        assertNoSeqScanOnEvents(query("findCardPageByStatus"), Map.of(
+                "status", "'published'", "afterStart", "'1970-01-01T00:00:00Z'", "afterId", "0", "limit", "21"));
+    }
+
+    @Test
+    void findCardPageByStatusAndCategory_usesIndex() throws Exception {
+        assertNoSeqScanOnEvents(query("findCardPageByStatusAndCategory"), Map.of(
+                "status", "'published'", "categoryId", String.valueOf(categoryId),
+                "afterStart", "'1970-01-01T00:00:00Z'", "afterId", "0", "limit", "21"));
+    }
+
+    @Test
+    void findCardPageByStatusAndEventType_usesIndex() throws Exception {
+        assertNoSeqScanOnEvents(query("findCardPageByStatusAndEventType"), Map.of(
+                "status", "'published'", "eventType", "'online'",
+                "afterStart", "'1970-01-01T00:00:00Z'", "afterId", "0", "limit", "21"));
+    }
+
+    @Test
+    void findCardPageByAuthor_usesIndex() throws Exception {
+        assertNoSeqScanOnEvents(query("findCardPageByAuthor"), Map.of(
+                "authorId", "17", "beforeCreated", "'9999-12-31T00:00:00Z'",
+                "beforeId", String.valueOf(Long.MAX_VALUE), "limit", "21"));
+    }
+
+    @Test
+    void findCardPageByAnyTag_usesIndex() throws Exception {
+        assertNoSeqScanOnEvents(query("findCardPageByAnyTag"), Map.of(
+                "status", "'published'", "tags", "'{tag3}'",
+                "afterStart", "'1970-01-01T00:00:00Z'", "afterId", "0", "limit", "21"));
+    }
+
+    @Test
+    void findFeatured_usesIndex() throws Exception {
+        assertNoSeqScanOnEvents(query("findByStatusAndIsFeaturedTrueOrderByScheduleStartDateAsc"),
+                Map.of("status", "'published'"));
+    }
+
+    @Test
+    void completeEndedEvents_usesIndex() throws Exception {
+        assertNoSeqScanOnEvents(query("completeEndedEvents"), Map.of(
+                "limit", "500", "topic", "'event-service.events'"));
+    }
+
+    @Test
+    void archiveFinishedEvents_usesIndex() throws Exception {
+        assertNoSeqScanOnEvents(query("archiveFinishedEvents"), Map.of(
+                "before", "now() - interval '180 days'", "limit", "500"));
+    }
+
+    private void assertNoSeqScanOnEvents(String sql, Map<String, String> parameters) throws Exception {
+        List<String> names = new ArrayList<>();
+        String prepared = numberParameters(sql, names);
+        String arguments = names.stream()
+                .map(name -> {
+                    String value = parameters.get(name);
+                    if (value == null) {
+                        throw new IllegalArgumentException("No value for parameter :" + name);
+                    }
+                    return value;
+                })
+                .collect(Collectors.joining(", ", "(", ")"));
+        JsonNode plan;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PREPARE plan_check AS " + prepared);
+            try (ResultSet rs = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE plan_check"
+                    + (names.isEmpty() ? "" : arguments))) {
+                rs.next();
+                plan = objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+            } finally {
+                statement.execute("DEALLOCATE plan_check");
+            }
+        }
+        List<String> seqScans = new ArrayList<>();
+        collectSeqScans(plan, seqScans);
+        assertTrue(!seqScans.contains("events"), () -> "Seq Scan on events in plan:\n" + plan.toPrettyString());
+    }
+
+    private static void collectSeqScans(JsonNode node, List<String> relations) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            relations.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, relations);
+        }
+    }
+
+    private static String query(String methodName) {
+        Method method = Arrays.stream(EventRepository.class.getMethods())
+                .filter(m -> m.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No repository method " + methodName));
+        return method.getAnnotation(Query.class).value();
+    }
+
+    /**
+     * Заменить именованные параметры на $1, $2, ... в порядке первого появления; имена складываются в {@code names}.
+     */
+    private static String numberParameters(String sql, List<String> names) {
+        Matcher matcher = PARAMETER.matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            if (!names.contains(name)) {
+                names.add(name);
+            }
+            matcher.appendReplacement(numbered, Matcher.quoteReplacement("$" + (names.indexOf(name) + 1)));
+        }
+        matcher.appendTail(numbered);
+        return numbered.toString();
+    }
+}
@@ -0,0 +1,40 @@
+// Нагрузочный тест для сравнения платформенных и виртуальных потоков.
+// Запуск: k6 run -e BASE_URL=http://localhost:8080 -e VUS=200 load-test/profile-me.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '200');
+
+export const options = {
+    scenarios: {
+        profile: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export function setup() {
+    const login = `load_${Date.now()}`;
+    http.post(`${BASE_URL}/auth/signup`, JSON.stringify({
+        login: login,
+        password: 'password',
+        fullName: 'Load Test',
+        personalEmail: `${login}@example.com`,
+        social: {},
+    }), JSON_HEADERS);
+    const res = http.post(`${BASE_URL}/auth/login`, JSON.stringify({ login: login, password: 'password' }), JSON_HEADERS);
+    return { accessToken: res.json('accessToken') };
+}
+
+export default function (data) {
+    const res = http.get(`${BASE_URL}/profile/me`, {
+        headers: { Authorization: `Bearer ${data.accessToken}` },
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,81 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import ru.mai.topit.volunteers.platform.userinfo.domain.vo.SocialNetworks;
+import ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.codec.CacheCodec;
+import ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.codec.CacheCodecRegistry;
+import ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.codec.ProfileResponseCodec;
+import ru.mai.topit.volunteers.platform.userinfo.presentation.http.profile.dto.ProfileDtos;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Размер значения на проводе печатается в setUp, CPU на операцию — результат бенчмарка
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheCodecBenchmark {
+
+    // profile — ручной кодек ProfileResponse, smile — кодек по умолчанию
+    @Param({"profile", "smile"})
+    public String codec;
+
+    private ObjectMapper mapper;
+    private Jackson2JsonRedisSerializer<Object> legacySerializer;
+    private CacheCodecRegistry registry;
+    private ProfileDtos.ProfileResponse profile;
+    private byte[] legacyBytes;
+    private byte[] encodedBytes;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        legacySerializer = new Jackson2JsonRedisSerializer<>(mapper, Object.class);
+
+        CacheProperties properties = new CacheProperties();
+        List<CacheCodec<?>> codecs =
+                "profile".equals(codec) ? List.of(new ProfileResponseCodec()) : List.of();
+        registry = new CacheCodecRegistry(codecs, properties);
+
+        profile = new ProfileDtos.ProfileResponse(42L, "john", "Иван Иванов", "john@ex.com",
+                "u12345@mai.ru", "Институт №8", "М8О-101Б-23", LocalDate.of(2000, 1, 1), "L",
+                new SocialNetworks("@tg", "vk.com/user"), "john.contact@ex.com", "VOLUNTEER");
+
+        legacyBytes = encodeLegacy();
+        encodedBytes = registry.encode(profile);
+        System.out.printf("%nbytes: legacy=%d %s=%d%n", legacyBytes.length, codec, encodedBytes.length);
+    }
+
+    // Прежний путь: JSON-строка, которую шаблон ещё раз кодирует как JSON
+    @Benchmark
+    public byte[] encodeLegacy() throws JsonProcessingException {
+        return legacySerializer.serialize(mapper.writeValueAsString(profile));
+    }
+
+    @Benchmark
+    public ProfileDtos.ProfileResponse decodeLegacy() throws JsonProcessingException {
+        return mapper.readValue((String) legacySerializer.deserialize(legacyBytes), ProfileDtos.ProfileResponse.class);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return registry.encode(profile);
+    }
+
+    @Benchmark
+    public ProfileDtos.ProfileResponse decode() {
+        return registry.decode(encodedBytes, ProfileDtos.ProfileResponse.class);
+    }
+}
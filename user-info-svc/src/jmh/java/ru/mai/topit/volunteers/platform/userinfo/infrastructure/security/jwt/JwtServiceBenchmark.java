@@ -0,0 +1,68 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtServiceBenchmark {
+    private static final String SECRET = "dGhpc19faXNfYV9zZWN1cmVfMzJieXRlX2Jhc2U2NF9rZXk=";
+
+    private JwtService jwtService;
+    private Key signingKey;
+    private Map<String, Object> claims;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        jwtService = new JwtService(properties);
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        claims = Map.of(
+                JwtService.CLAIM_UID, 42L,
+                JwtService.CLAIM_ROLE, "VOLUNTEER",
+                JwtService.CLAIM_AUTHORITIES, List.of("VOLUNTEER"));
+        accessToken = jwtService.issueAccessToken("john", claims);
+    }
+
+    @Benchmark
+    public String issueAccessToken() {
+        return jwtService.issueAccessToken("john", claims);
+    }
+
+    @Benchmark
+    public String issueRefreshToken() {
+        return jwtService.issueRefreshToken("john");
+    }
+
+    @Benchmark
+    public Claims verifyAccessToken() {
+        return jwtService.parseAndValidate(accessToken);
+    }
+
+    // Прежнее поведение: парсер собирается на каждый запрос
+    @Benchmark
+    public Claims verifyAccessTokenWithNewParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+}
@@ -11,7 +11,9 @@ import ru.mai.topit.volunteers.platform.userinfo.application.exception.UserAlrea
 import ru.mai.topit.volunteers.platform.userinfo.application.factory.FactoryProvider;
 import ru.mai.topit.volunteers.platform.userinfo.application.factory.ModelFactory;
 import ru.mai.topit.volunteers.platform.userinfo.domain.User;
+import ru.mai.topit.volunteers.platform.userinfo.domain.vo.UserRole;
 import ru.mai.topit.volunteers.platform.userinfo.infrastructure.repository.UserRepository;
+import ru.mai.topit.volunteers.platform.userinfo.infrastructure.security.UserDetailsServiceImpl;
 import ru.mai.topit.volunteers.platform.userinfo.infrastructure.security.jwt.JwtService;
 import ru.mai.topit.volunteers.platform.userinfo.infrastructure.security.jwt.TokenStore;
 import ru.mai.topit.volunteers.platform.userinfo.presentation.http.auth.dto.AuthDtos;
@@ -43,19 +45,22 @@ public class AuthService {
         return createJwtToken(user);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public Map<String, String> login(String login, String rawPassword) {
         User user = userRepository.findByLogin(login).orElseThrow(InvalidCredentialsException::new);
         if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
             throw new InvalidCredentialsException();
         }
+        // После смены cost BCrypt пароль перехешируется при первом успешном входе
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+        }
         return createJwtToken(user);
     }
 
     private Map<String, String> createJwtToken(User user) {
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("uid", user.getId());
-        String access = jwtService.issueAccessToken(user.getLogin(), claims);
+        String access = jwtService.issueAccessToken(user.getLogin(), accessClaims(user));
         String refresh = jwtService.issueRefreshToken(user.getLogin());
         tokenStore.storeRefreshToken(String.valueOf(user.getId()), refresh);
         Map<String, String> tokens = new HashMap<>();
@@ -68,18 +73,14 @@ public class AuthService {
     public Map<String, String> refresh(String refreshToken) {
         Claims claims = jwtService.parseAndValidate(refreshToken);
         String login = claims.getSubject();
+        // Пользователя перечитываем, чтобы новый access-токен получил актуальную роль
         User user = userRepository.findByLogin(login).orElseThrow(InvalidRefreshTokenException::new);
-        if (!tokenStore.hasRefreshToken(String.valueOf(user.getId()), refreshToken)) {
-            throw new InvalidRefreshTokenException();
-        }
-        Map<String, Object> newClaims = new HashMap<>();
-        newClaims.put("uid", user.getId());
-
-        String newAccess = jwtService.issueAccessToken(login, newClaims);
+        String newAccess = jwtService.issueAccessToken(login, accessClaims(user));
         String newRefresh = jwtService.issueRefreshToken(login);
 
-        tokenStore.revokeRefreshToken(String.valueOf(user.getId()), refreshToken);
-        tokenStore.storeRefreshToken(String.valueOf(user.getId()), newRefresh);
+        if (!tokenStore.rotateRefreshToken(String.valueOf(user.getId()), refreshToken, newRefresh)) {
+            throw new InvalidRefreshTokenException();
+        }
 
         Map<String, String> tokens = new HashMap<>();
         tokens.put("accessToken", newAccess);
@@ -87,6 +88,15 @@ public class AuthService {
         return tokens;
     }
 
+    private Map<String, Object> accessClaims(User user) {
+        UserRole role = user.getRole() != null ? user.getRole() : UserRole.VOLUNTEER;
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtService.CLAIM_UID, user.getId());
+        claims.put(JwtService.CLAIM_ROLE, role.name());
+        claims.put(JwtService.CLAIM_AUTHORITIES, UserDetailsServiceImpl.authoritiesOf(role));
+        return claims;
+    }
+
     @Transactional
     public void logout(String refreshToken) {
         Claims claims = jwtService.parseAndValidate(refreshToken);
@@ -94,6 +104,18 @@ public class AuthService {
         User user = userRepository.findByLogin(login).orElseThrow(() -> new IllegalArgumentException("Invalid token"));
         tokenStore.revokeRefreshToken(String.valueOf(user.getId()), refreshToken);
     }
+
+    @Transactional
+    public void logoutAll(String refreshToken) {
+        Claims claims = jwtService.parseAndValidate(refreshToken);
+        String login = claims.getSubject();
+        User user = userRepository.findByLogin(login).orElseThrow(InvalidRefreshTokenException::new);
+        String userId = String.valueOf(user.getId());
+        if (!tokenStore.hasRefreshToken(userId, refreshToken)) {
+            throw new InvalidRefreshTokenException();
+        }
+        tokenStore.revokeAllRefreshTokens(userId);
+    }
 }
 
 
@@ -6,6 +6,7 @@ import ru.mai.topit.volunteers.platform.userinfo.application.exception.UserNotFo
 import ru.mai.topit.volunteers.platform.userinfo.application.mapper.ProfileMapper;
 import ru.mai.topit.volunteers.platform.userinfo.domain.User;
 import ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.RedisProvider;
+import ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.Versioned;
 import ru.mai.topit.volunteers.platform.userinfo.infrastructure.repository.UserRepository;
 import ru.mai.topit.volunteers.platform.userinfo.presentation.http.profile.dto.ProfileDtos;
 
@@ -20,9 +21,9 @@ public class ProfileService {
     public ProfileDtos.ProfileResponse getProfileByLogin(String login) {
         String key = "user:profile:" + login;
 
-        return redisProvider.getAndCache(key, () ->
+        return redisProvider.getAndCacheVersioned(key, () ->
                         userRepository.findByLogin(login)
-                                .map(profileMapper::toDto)
+                                .map(this::toVersionedDto)
                                 .orElseThrow(() -> new UserNotFoundException(login)),
                 ProfileDtos.ProfileResponse.class
         );
@@ -31,13 +32,18 @@ public class ProfileService {
     public ProfileDtos.ProfileResponse updateProfileByLogin(String login, ProfileDtos.ProfileUpdateRequest request) {
         String key = "user:profile:" + login;
 
-        return redisProvider.upsertDataAndEvictCache(key, () -> {
+        // Свежий профиль сразу пишется в кэш, чтобы следующий getMe не шёл в БД
+        return redisProvider.upsertDataAndWriteThrough(key, () -> {
             User user = userRepository.findByLogin(login).orElseThrow(() -> new UserNotFoundException(login));
             profileMapper.updateEntityFromRequest(request, user);
             User saved = userRepository.save(user);
-            return profileMapper.toDto(saved);
+            return toVersionedDto(saved);
         });
     }
+
+    private Versioned<ProfileDtos.ProfileResponse> toVersionedDto(User user) {
+        return new Versioned<>(user.getVersion(), profileMapper.toDto(user));
+    }
 }
 
 
@@ -0,0 +1,7 @@
+package ru.mai.topit.volunteers.platform.userinfo.application.exception;
+
+public class PasswordHashingOverloadedException extends RuntimeException {
+    public PasswordHashingOverloadedException() {
+        super("Password hashing is overloaded, try again later");
+    }
+}
@@ -19,6 +19,7 @@ public interface ProfileMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "role", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "social", source = "social")
     void updateEntityFromRequest(ProfileDtos.ProfileUpdateRequest request, @MappingTarget User user);
 }
@@ -82,6 +82,11 @@ public class User {
     @JdbcType(PostgreSQLEnumJdbcType.class)
     private UserRole role;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public SocialNetworks getSocialNetworks() {
         return new SocialNetworks(
                 social.get("telegram"),
@@ -0,0 +1,16 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "db.admission")
+@Getter
+@Setter
+public class DataSourceAdmissionProperties {
+    // Не больше размера пула Hikari: лишние потоки ждут в очереди семафора, а не внутри пула
+    private int maxConcurrent = 10;
+    private long acquireTimeoutMillis = 5000;
+}
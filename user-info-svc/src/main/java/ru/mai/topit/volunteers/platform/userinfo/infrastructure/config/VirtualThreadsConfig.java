@@ -0,0 +1,32 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// Tomcat, @Async и @Scheduled переключаются на виртуальные потоки самим Spring Boot
+// по spring.threads.virtual.enabled; здесь только ограничение доступа к пулу соединений.
+// Пул BoundedPasswordEncoder остаётся на платформенных потоках: BCrypt нагружает CPU, а не ждёт I/O.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceAdmissionPostProcessor(ObjectProvider<DataSourceAdmissionProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionControlDataSource)) {
+                    DataSourceAdmissionProperties admission = properties.getObject();
+                    return new AdmissionControlDataSource(dataSource, admission.getMaxConcurrent(), admission.getAcquireTimeoutMillis());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationListener implements MessageListener {
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisProvider redisProvider;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisProvider.INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object cacheKey = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (cacheKey == null) {
+            log.warn("Пустое сообщение в канале {}", RedisProvider.INVALIDATION_CHANNEL);
+            return;
+        }
+        redisProvider.evictLocal(cacheKey.toString());
+    }
+}
@@ -0,0 +1,39 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "cache")
+@Getter
+@Setter
+public class CacheProperties {
+    // Настройки для ключей, не попавших ни в один регион
+    private Region defaults = new Region();
+    // Регион выбирается по самому длинному совпавшему префиксу ключа
+    private List<Region> regions = new ArrayList<>();
+    private Compression compression = new Compression();
+
+    @Getter
+    @Setter
+    public static class Region {
+        private String prefix = "";
+        private Duration localTtl = Duration.ofSeconds(30);
+        private long localMaxSize = 10000;
+        private Duration remoteTtl = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Compression {
+        private boolean enabled = true;
+        // Мелкие значения LZ4 почти не сжимает, а CPU тратит
+        private int thresholdBytes = 1024;
+    }
+}
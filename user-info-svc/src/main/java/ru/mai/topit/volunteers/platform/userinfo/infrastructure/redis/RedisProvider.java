@@ -1,56 +1,270 @@
 package ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
+import ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.codec.CacheCodecRegistry;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
 import java.util.function.Supplier;
 
+// Двухуровневый кэш: L1 — Caffeine в памяти узла, L2 — Redis с TTL.
+// Инвалидация L1 на остальных узлах идёт через pub/sub канал INVALIDATION_CHANNEL.
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RedisProvider {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    public static final String INVALIDATION_CHANNEL = "op:cache:invalidate";
     private static final String READ_CACHE_KEY = "op:cache:";
-    private final ObjectMapper mapper;
+    // Версионные значения хранятся хешем {v, d}, поэтому в отдельном пространстве ключей
+    private static final String VERSIONED_CACHE_KEY = READ_CACHE_KEY + "vh:";
+    private static final String VERSION_FIELD = "v";
+    private static final String DATA_FIELD = "d";
+
+    // KEYS[1] — ключ; ARGV[1] — версия, ARGV[2] — данные, ARGV[3] — TTL в мс.
+    // Пишем, только если в кэше нет версии новее или такой же.
+    private static final RedisScript<Long> STORE_IF_NEWER_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'v')
+            if current and tonumber(current) >= tonumber(ARGV[1]) then
+              return 0
+            end
+            redis.call('HSET', KEYS[1], 'v', ARGV[1], 'd', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, byte[]> cacheRedisTemplate;
+    private final CacheCodecRegistry codecs;
+    private final MeterRegistry meterRegistry;
+    private final List<CacheRegion> regions;
+    private final CacheRegion defaultRegion;
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    public RedisProvider(RedisTemplate<String, Object> redisTemplate,
+                         RedisTemplate<String, byte[]> cacheRedisTemplate,
+                         CacheCodecRegistry codecs,
+                         CacheProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.cacheRedisTemplate = cacheRedisTemplate;
+        this.codecs = codecs;
+        this.meterRegistry = meterRegistry;
+        this.defaultRegion = createRegion("default", properties.getDefaults());
+        this.regions = properties.getRegions().stream()
+                .sorted(Comparator.comparingInt((CacheProperties.Region region) -> region.getPrefix().length()).reversed())
+                .map(region -> createRegion(region.getPrefix(), region))
+                .toList();
+    }
 
-    @SuppressWarnings("unchecked")
     public <T> T getAndCache(String key, Supplier<T> getDataFunc, Class<T> clazz) {
         String cacheKey = READ_CACHE_KEY + key;
+        CacheRegion region = regionFor(key);
 
-        Object cached = redisTemplate.opsForValue().get(cacheKey);
-        if (cached != null) {
+        Object local = region.local().getIfPresent(cacheKey);
+        if (local != null) {
+            return clazz.cast(local);
+        }
+
+        // Параллельные промахи по одному ключу ждут одну загрузку вместо вызова supplier каждым запросом
+        return singleFlight.execute(cacheKey, () -> {
+            T result = loadThroughRemote(cacheKey, region, getDataFunc, clazz);
+            if (result != null) {
+                region.local().put(cacheKey, result);
+            }
+            return result;
+        });
+    }
+
+    public <T> T upsertDataAndEvictCache(String key, Supplier<T> func) {
+        String cacheKey = READ_CACHE_KEY + key;
+
+        T result = func.get();
+
+        cacheRedisTemplate.delete(cacheKey);
+        evictLocal(cacheKey);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, cacheKey);
+
+        return result;
+    }
+
+    // Чтение версионного значения: в Redis и L1 попадает только версия не старее уже сохранённой,
+    // поэтому медленный читатель не затрёт результат более поздней записи
+    public <T> T getAndCacheVersioned(String key, Supplier<Versioned<T>> getDataFunc, Class<T> clazz) {
+        String cacheKey = VERSIONED_CACHE_KEY + key;
+        CacheRegion region = regionFor(key);
+
+        Object local = region.local().getIfPresent(cacheKey);
+        if (local instanceof Versioned<?> versioned) {
+            return clazz.cast(versioned.value());
+        }
+
+        return singleFlight.execute(cacheKey, () -> {
+            Versioned<T> result = loadVersionedThroughRemote(cacheKey, region, getDataFunc, clazz);
+            if (result == null) {
+                return null;
+            }
+            putLocalIfNewer(region, cacheKey, result);
+            return result.value();
+        });
+    }
+
+    // Write-through: после обновления источника свежее значение сразу кладётся в кэш,
+    // остальные узлы сбрасывают L1 и дочитывают его из Redis
+    public <T> T upsertDataAndWriteThrough(String key, Supplier<Versioned<T>> func) {
+        String cacheKey = VERSIONED_CACHE_KEY + key;
+        CacheRegion region = regionFor(key);
+
+        Versioned<T> result = func.get();
+
+        try {
+            storeIfNewer(cacheKey, region, result);
+        } catch (RuntimeException ex) {
+            // Запись в кэш не удалась — убираем значение, чтобы не отдавать устаревшее
+            log.error("Ошибка при записи объекта в Redis: {}", ex.getMessage(), ex);
+            cacheRedisTemplate.delete(cacheKey);
+        }
+        putLocalIfNewer(region, cacheKey, result);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, cacheKey);
+
+        return result.value();
+    }
+
+    public void evictLocal(String cacheKey) {
+        String key = cacheKey.startsWith(VERSIONED_CACHE_KEY)
+                ? cacheKey.substring(VERSIONED_CACHE_KEY.length())
+                : cacheKey.substring(READ_CACHE_KEY.length());
+        regionFor(key).local().invalidate(cacheKey);
+    }
+
+    private <T> Versioned<T> loadVersionedThroughRemote(String cacheKey, CacheRegion region,
+                                                        Supplier<Versioned<T>> getDataFunc, Class<T> clazz) {
+        List<Object> cached = cacheRedisTemplate.opsForHash().multiGet(cacheKey, List.of(VERSION_FIELD, DATA_FIELD));
+        if (cached.get(0) != null && cached.get(1) != null) {
             try {
-                // Читаем строку и десериализуем в нужный тип
-                return mapper.readValue(cached.toString(), clazz);
-            } catch (Exception ex) {
-                log.error("Ошибка при десериализации объекта из Redis: {}", ex.getMessage(), ex);
+                long version = Long.parseLong(new String((byte[]) cached.get(0), StandardCharsets.UTF_8));
+                Versioned<T> value = new Versioned<>(version, codecs.decode((byte[]) cached.get(1), clazz));
+                region.remoteHits().increment();
+                return value;
+            } catch (RuntimeException ex) {
+                log.warn("Не удалось декодировать значение кэша {}: {}", cacheKey, ex.getMessage());
             }
         }
+        region.remoteMisses().increment();
 
-        T result = getDataFunc.get();
+        Versioned<T> result = region.loadTimer().record(getDataFunc);
 
         if (result != null) {
             try {
-                String serializedMessage = mapper.writeValueAsString(result);
-                redisTemplate.opsForValue().set(cacheKey, serializedMessage);
-            } catch (Exception ex) {
-                log.error("Ошибка при сериализации объекта для Redis: {}", ex.getMessage(), ex);
+                storeIfNewer(cacheKey, region, result);
+            } catch (RuntimeException ex) {
+                log.error("Ошибка при сохранении объекта в Redis: {}", ex.getMessage(), ex);
             }
         }
         return result;
     }
 
-    public <T> T upsertDataAndEvictCache(String key, Supplier<T> func) {
-        String cacheKey = READ_CACHE_KEY + key;
+    private void storeIfNewer(String cacheKey, CacheRegion region, Versioned<?> value) {
+        cacheRedisTemplate.execute(
+                STORE_IF_NEWER_SCRIPT,
+                RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class),
+                List.of(cacheKey),
+                Long.toString(value.version()).getBytes(StandardCharsets.UTF_8),
+                codecs.encode(value.value()),
+                Long.toString(region.remoteTtl().toMillis()).getBytes(StandardCharsets.UTF_8));
+    }
 
-        T result = func.get();
+    // Сравнение идёт и с нижней границей версии ключа: она переживает вытеснение записи из L1,
+    // поэтому после инвалидации (в том числе собственной, пришедшей по pub/sub) медленный читатель,
+    // загрузивший версию до записи, не вернёт её в L1
+    private static void putLocalIfNewer(CacheRegion region, String cacheKey, Versioned<?> value) {
+        region.versionFloors().asMap().compute(cacheKey, (key, floor) -> {
+            if (floor != null && floor > value.version()) {
+                return floor;
+            }
+            region.local().asMap().merge(key, value, (current, candidate) ->
+                    current instanceof Versioned<?> existing && existing.version() >= value.version() ? current : candidate);
+            return value.version();
+        });
+    }
 
-        redisTemplate.delete(cacheKey);
+    private <T> T loadThroughRemote(String cacheKey, CacheRegion region, Supplier<T> getDataFunc, Class<T> clazz) {
+        byte[] cached = cacheRedisTemplate.opsForValue().get(cacheKey);
+        if (cached != null) {
+            try {
+                T value = codecs.decode(cached, clazz);
+                region.remoteHits().increment();
+                return value;
+            } catch (RuntimeException ex) {
+                // Например, значение в старом JSON-формате: считаем промахом и перезаписываем
+                log.warn("Не удалось декодировать значение кэша {}: {}", cacheKey, ex.getMessage());
+            }
+        }
+        region.remoteMisses().increment();
+
+        T result = region.loadTimer().record(getDataFunc);
 
+        if (result != null) {
+            try {
+                cacheRedisTemplate.opsForValue().set(cacheKey, codecs.encode(result), region.remoteTtl());
+            } catch (RuntimeException ex) {
+                log.error("Ошибка при сохранении объекта в Redis: {}", ex.getMessage(), ex);
+            }
+        }
         return result;
     }
+
+    private CacheRegion regionFor(String key) {
+        for (CacheRegion region : regions) {
+            if (key.startsWith(region.prefix())) {
+                return region;
+            }
+        }
+        return defaultRegion;
+    }
+
+    private CacheRegion createRegion(String name, CacheProperties.Region config) {
+        Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(config.getLocalMaxSize())
+                .expireAfterWrite(config.getLocalTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "l1:" + name);
+        // Границы живут столько же, сколько значения в Redis: более старую версию оттуда уже не прочитать
+        Cache<String, Long> versionFloors = Caffeine.newBuilder()
+                .maximumSize(config.getLocalMaxSize())
+                .expireAfterWrite(config.getRemoteTtl())
+                .build();
+        return new CacheRegion(
+                config.getPrefix(),
+                local,
+                versionFloors,
+                config.getRemoteTtl(),
+                Counter.builder("cache.l2.requests").tag("cache", name).tag("result", "hit").register(meterRegistry),
+                Counter.builder("cache.l2.requests").tag("cache", name).tag("result", "miss").register(meterRegistry),
+                Timer.builder("cache.load").tag("cache", name).register(meterRegistry));
+    }
+
+    private record CacheRegion(String prefix,
+                               Cache<String, Object> local,
+                               Cache<String, Long> versionFloors,
+                               Duration remoteTtl,
+                               Counter remoteHits,
+                               Counter remoteMisses,
+                               Timer loadTimer) {
+    }
 }
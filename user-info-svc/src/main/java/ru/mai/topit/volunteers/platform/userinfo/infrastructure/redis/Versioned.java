@@ -0,0 +1,5 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis;
+
+// Значение кэша вместе с версией источника: более старая версия не может перезаписать более новую
+public record Versioned<T>(long version, T value) {
+}
@@ -0,0 +1,13 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.codec;
+
+// Сериализатор значений кэша для конкретного типа.
+// id пишется в заголовок значения, поэтому при изменении формата нужен новый id, а не правка старого.
+public interface CacheCodec<T> {
+    byte id();
+
+    Class<T> type();
+
+    byte[] encode(T value);
+
+    T decode(byte[] payload);
+}
@@ -0,0 +1,122 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.codec;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.stereotype.Component;
+import ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.CacheProperties;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Формат значения в Redis: [магический байт][версия формата][id кодека][флаги]([исходная длина, если сжато])[данные].
+// Магический байт 0xC1 не встречается в UTF-8, поэтому старые JSON-значения и чужие данные
+// отсекаются до чтения флагов и длины. Типы без собственного кодека пишутся через Smile.
+@Component
+public class CacheCodecRegistry {
+    private static final byte MAGIC = (byte) 0xC1;
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4;
+    private static final byte FLAG_LZ4 = 1;
+    // Значения кэша — профили и справочники, больше нескольких мегабайт они не бывают
+    private static final int MAX_DECODED_BYTES = 8 * 1024 * 1024;
+    // LZ4 не сжимает сильнее чем примерно в 255 раз
+    private static final int MAX_LZ4_RATIO = 255;
+
+    private final Map<Class<?>, CacheCodec<?>> byType = new HashMap<>();
+    private final Map<Byte, CacheCodec<?>> byId = new HashMap<>();
+    private final SmileCacheCodec smile = new SmileCacheCodec();
+    private final CacheProperties.Compression compression;
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    public CacheCodecRegistry(List<CacheCodec<?>> codecs, CacheProperties properties) {
+        for (CacheCodec<?> codec : codecs) {
+            if (codec.id() == SmileCacheCodec.ID || byId.putIfAbsent(codec.id(), codec) != null) {
+                throw new IllegalStateException("Повторяющийся id кодека кэша: " + codec.id());
+            }
+            byType.put(codec.type(), codec);
+        }
+        this.compression = properties.getCompression();
+    }
+
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object value) {
+        CacheCodec<Object> codec = (CacheCodec<Object>) byType.get(value.getClass());
+        byte id = codec != null ? codec.id() : SmileCacheCodec.ID;
+        byte[] payload = codec != null ? codec.encode(value) : smile.encode(value);
+
+        if (compression.isEnabled() && payload.length >= compression.getThresholdBytes()) {
+            byte[] compressed = new byte[compressor.maxCompressedLength(payload.length)];
+            int compressedLength = compressor.compress(payload, 0, payload.length, compressed, 0);
+            return ByteBuffer.allocate(HEADER_SIZE + Integer.BYTES + compressedLength)
+                    .put(MAGIC)
+                    .put(FORMAT_VERSION)
+                    .put(id)
+                    .put(FLAG_LZ4)
+                    .putInt(payload.length)
+                    .put(compressed, 0, compressedLength)
+                    .array();
+        }
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .put(MAGIC)
+                .put(FORMAT_VERSION)
+                .put(id)
+                .put((byte) 0)
+                .put(payload)
+                .array();
+    }
+
+    public <T> T decode(byte[] value, Class<T> type) {
+        if (value.length < HEADER_SIZE || value[0] != MAGIC || value[1] != FORMAT_VERSION) {
+            throw new CacheDecodeException("Значение кэша в неизвестном формате");
+        }
+        byte id = value[2];
+        byte flags = value[3];
+
+        byte[] payload;
+        if (flags == FLAG_LZ4) {
+            payload = decompress(value);
+        } else if (flags == 0) {
+            payload = new byte[value.length - HEADER_SIZE];
+            System.arraycopy(value, HEADER_SIZE, payload, 0, payload.length);
+        } else {
+            throw new CacheDecodeException("Неизвестные флаги значения кэша: " + flags);
+        }
+
+        try {
+            if (id == SmileCacheCodec.ID) {
+                return smile.decode(payload, type);
+            }
+            CacheCodec<?> codec = byId.get(id);
+            if (codec == null || codec.type() != type) {
+                throw new CacheDecodeException("Неизвестный кодек кэша " + id + " для " + type.getSimpleName());
+            }
+            return type.cast(codec.decode(payload));
+        } catch (CacheDecodeException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new CacheDecodeException("Не удалось разобрать значение кэша кодеком " + id, ex);
+        }
+    }
+
+    private byte[] decompress(byte[] value) {
+        int compressedLength = value.length - HEADER_SIZE - Integer.BYTES;
+        if (compressedLength <= 0) {
+            throw new CacheDecodeException("Сжатое значение кэша короче заголовка");
+        }
+        int originalLength = ByteBuffer.wrap(value, HEADER_SIZE, Integer.BYTES).getInt();
+        // Длину из заголовка проверяем до выделения буфера: битое значение не должно стоить гигабайта памяти
+        if (originalLength <= 0 || originalLength > MAX_DECODED_BYTES
+                || (long) originalLength > (long) compressedLength * MAX_LZ4_RATIO) {
+            throw new CacheDecodeException("Недопустимая длина сжатого значения кэша: " + originalLength);
+        }
+        try {
+            return decompressor.decompress(value, HEADER_SIZE + Integer.BYTES, originalLength);
+        } catch (RuntimeException ex) {
+            throw new CacheDecodeException("Не удалось распаковать значение кэша", ex);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.codec;
+
+// Значение в Redis не удалось разобрать: чужой или устаревший формат, битые данные.
+// Вызывающий код считает такое значение промахом кэша.
+public class CacheDecodeException extends RuntimeException {
+    public CacheDecodeException(String message) {
+        super(message);
+    }
+
+    public CacheDecodeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,111 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.codec;
+
+import org.springframework.stereotype.Component;
+import ru.mai.topit.volunteers.platform.userinfo.domain.vo.SocialNetworks;
+import ru.mai.topit.volunteers.platform.userinfo.presentation.http.profile.dto.ProfileDtos;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+// Компактный ручной формат профиля: поля по порядку, без имён.
+// Строки — длина + UTF-8, null кодируется длиной -1.
+@Component
+public class ProfileResponseCodec implements CacheCodec<ProfileDtos.ProfileResponse> {
+    public static final byte ID = 2;
+
+    private static final int NULL_LENGTH = -1;
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public Class<ProfileDtos.ProfileResponse> type() {
+        return ProfileDtos.ProfileResponse.class;
+    }
+
+    @Override
+    public byte[] encode(ProfileDtos.ProfileResponse value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeBoolean(value.id() != null);
+            if (value.id() != null) {
+                out.writeLong(value.id());
+            }
+            writeString(out, value.login());
+            writeString(out, value.fullName());
+            writeString(out, value.personalEmail());
+            writeString(out, value.maiEmail());
+            writeString(out, value.institute());
+            writeString(out, value.studentGroup());
+            out.writeBoolean(value.birthDate() != null);
+            if (value.birthDate() != null) {
+                out.writeLong(value.birthDate().toEpochDay());
+            }
+            writeString(out, value.clothingSize());
+            out.writeBoolean(value.social() != null);
+            if (value.social() != null) {
+                writeString(out, value.social().telegram());
+                writeString(out, value.social().vk());
+            }
+            writeString(out, value.contactEmail());
+            writeString(out, value.role());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public ProfileDtos.ProfileResponse decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            Long id = in.readBoolean() ? in.readLong() : null;
+            String login = readString(in);
+            String fullName = readString(in);
+            String personalEmail = readString(in);
+            String maiEmail = readString(in);
+            String institute = readString(in);
+            String studentGroup = readString(in);
+            LocalDate birthDate = in.readBoolean() ? LocalDate.ofEpochDay(in.readLong()) : null;
+            String clothingSize = readString(in);
+            SocialNetworks social = in.readBoolean() ? new SocialNetworks(readString(in), readString(in)) : null;
+            String contactEmail = readString(in);
+            String role = readString(in);
+            return new ProfileDtos.ProfileResponse(id, login, fullName, personalEmail, maiEmail, institute,
+                    studentGroup, birthDate, clothingSize, social, contactEmail, role);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        // Длину проверяем по остатку данных до выделения буфера: битое значение не должно стоить гигабайта памяти
+        if (length < 0 || length > in.available()) {
+            throw new CacheDecodeException("Недопустимая длина строки в профиле: " + length);
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
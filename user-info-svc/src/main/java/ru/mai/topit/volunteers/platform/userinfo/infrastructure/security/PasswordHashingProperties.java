@@ -0,0 +1,19 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "password-hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+    // Cost BCrypt; хеши с меньшим cost перехешируются при входе
+    private int strength = 10;
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    // Сколько запрос ждёт результат, прежде чем получить 503
+    private long waitTimeoutMillis = 2000;
+}
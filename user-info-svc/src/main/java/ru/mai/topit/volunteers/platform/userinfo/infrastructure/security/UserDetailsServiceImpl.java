@@ -1,6 +1,5 @@
 package ru.mai.topit.volunteers.platform.userinfo.infrastructure.security;
 
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -10,8 +9,8 @@ import ru.mai.topit.volunteers.platform.userinfo.domain.User;
 import ru.mai.topit.volunteers.platform.userinfo.domain.vo.UserRole;
 import ru.mai.topit.volunteers.platform.userinfo.infrastructure.repository.UserRepository;
 
-import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -25,13 +24,17 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByLogin(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        var authorities = Collections.singletonList(new SimpleGrantedAuthority(UserRole.VOLUNTEER.name()));
+        var authorities = authoritiesOf(user.getRole()).stream().map(SimpleGrantedAuthority::new).toList();
         return org.springframework.security.core.userdetails.User
                 .withUsername(user.getLogin())
                 .password(user.getPassword())
                 .authorities(authorities)
                 .build();
     }
+
+    public static List<String> authoritiesOf(UserRole role) {
+        return Collections.singletonList((role != null ? role : UserRole.VOLUNTEER).name());
+    }
 }
 
 
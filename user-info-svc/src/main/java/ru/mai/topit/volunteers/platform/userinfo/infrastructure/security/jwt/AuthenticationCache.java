@@ -0,0 +1,81 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AuthenticationCache {
+    private final boolean enabled;
+    private final Cache<String, Entry> entries;
+    private final Cache<String, Boolean> revoked;
+
+    public AuthenticationCache(JwtProperties properties) {
+        JwtProperties.Cache config = properties.getCache();
+        this.enabled = config.isEnabled();
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(config.getMaxTtlSeconds())))
+                .build();
+        // Отозванные jti держим столько, сколько может жить access-токен
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getAccessTtlSeconds()))
+                .build();
+    }
+
+    public UserDetails get(String jti) {
+        if (!enabled || jti == null) {
+            return null;
+        }
+        Entry entry = entries.getIfPresent(jti);
+        return entry != null ? entry.userDetails() : null;
+    }
+
+    public void put(String jti, UserDetails userDetails, Date expiration) {
+        if (!enabled || jti == null || expiration == null || isRevoked(jti)) {
+            return;
+        }
+        entries.put(jti, new Entry(userDetails, expiration.getTime()));
+        // Отзыв мог прийти между проверкой и вставкой
+        if (isRevoked(jti)) {
+            entries.invalidate(jti);
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        return revoked.getIfPresent(jti) != null;
+    }
+
+    public void revoke(String jti) {
+        revoked.put(jti, Boolean.TRUE);
+        entries.invalidate(jti);
+    }
+
+    private record Entry(UserDetails userDetails, long expiresAtMillis) {
+    }
+
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, Entry> {
+        @Override
+        public long expireAfterCreate(String key, Entry value, long currentTime) {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(value.expiresAtMillis() - System.currentTimeMillis());
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -21,11 +21,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
     private final TokenStore tokenStore;
+    private final AuthenticationCache authenticationCache;
+    private final JwtProperties jwtProperties;
 
-    public JwtAuthFilter(JwtService jwtService, UserDetailsService userDetailsService, TokenStore tokenStore) {
+    public JwtAuthFilter(JwtService jwtService, UserDetailsService userDetailsService, TokenStore tokenStore,
+                         AuthenticationCache authenticationCache, JwtProperties jwtProperties) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
         this.tokenStore = tokenStore;
+        this.authenticationCache = authenticationCache;
+        this.jwtProperties = jwtProperties;
     }
 
     @Override
@@ -40,12 +45,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             Claims claims = jwtService.parseAndValidate(token);
             String username = claims.getSubject();
             String jti = claims.getId();
-            if (jti != null && tokenStore.isAccessTokenBlacklisted(jti)) {
+            UserDetails userDetails = authenticationCache.get(jti);
+            if (userDetails == null && jti != null
+                    && (authenticationCache.isRevoked(jti) || tokenStore.isAccessTokenBlacklisted(jti))) {
                 filterChain.doFilter(request, response);
                 return;
             }
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                if (userDetails == null) {
+                    userDetails = loadUserDetails(claims);
+                    authenticationCache.put(jti, userDetails, claims.getExpiration());
+                }
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -55,6 +65,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
-}
 
+    private UserDetails loadUserDetails(Claims claims) {
+        if (jwtProperties.getAuthMode() == JwtProperties.AuthMode.STATELESS) {
+            UserDetails fromClaims = jwtService.toUserDetails(claims);
+            if (fromClaims != null) {
+                return fromClaims;
+            }
+        }
+        return userDetailsService.loadUserByUsername(claims.getSubject());
+    }
+}
 
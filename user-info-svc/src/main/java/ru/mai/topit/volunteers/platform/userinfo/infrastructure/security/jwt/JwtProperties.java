@@ -17,6 +17,28 @@ public class JwtProperties {
     private String secret;
     private long accessTtlSeconds = 900; // 15m
     private long refreshTtlSeconds = 2592000; // 30d
-}
+    private AuthMode authMode = AuthMode.STATELESS;
+    // Принимать refresh-токены, сохранённые в старом формате auth:refresh:<userId>:<jwt>, и переносить их в хэш
+    // при первом обращении. Выключать, только когда все узлы пишут новый формат и старые ключи истекли.
+    private boolean legacyRefreshKeysEnabled = true;
+    // Перенести все старые ключи при старте, до приёма запросов
+    private boolean migrateLegacyRefreshKeys = true;
+    private Cache cache = new Cache();
+
+    public enum AuthMode {
+        // Principal собирается из claims access-токена без обращения к БД
+        STATELESS,
+        // Principal загружается через UserDetailsService на каждый новый токен
+        LOOKUP
+    }
 
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private long maximumSize = 100000;
+        // Страховка на случай потерянного сообщения об отзыве: запись живёт не дольше этого срока
+        private long maxTtlSeconds = 300;
+    }
+}
 
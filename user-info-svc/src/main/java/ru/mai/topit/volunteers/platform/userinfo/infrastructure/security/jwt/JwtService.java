@@ -1,26 +1,41 @@
 package ru.mai.topit.volunteers.platform.userinfo.infrastructure.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 public class JwtService {
+    public static final String CLAIM_UID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_AUTHORITIES = "authorities";
+
     private final JwtProperties properties;
     private final Key signingKey;
+    // JwtParser неизменяемый и потокобезопасный, собираем его один раз
+    private final JwtParser parser;
 
     public JwtService(JwtProperties properties) {
         this.properties = properties;
         byte[] keyBytes = Decoders.BASE64.decode(properties.getSecret());
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String issueAccessToken(String subject, Map<String, Object> claims) {
@@ -28,7 +43,7 @@ public class JwtService {
         return Jwts.builder()
                 .setSubject(subject)
                 .addClaims(claims)
-                .setId(java.util.UUID.randomUUID().toString())
+                .setId(newTokenId())
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(now.plusSeconds(properties.getAccessTtlSeconds())))
                 .signWith(signingKey, SignatureAlgorithm.HS256)
@@ -39,7 +54,7 @@ public class JwtService {
         Instant now = Instant.now();
         return Jwts.builder()
                 .setSubject(subject)
-                .setId(java.util.UUID.randomUUID().toString())
+                .setId(newTokenId())
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(now.plusSeconds(properties.getRefreshTtlSeconds())))
                 .signWith(signingKey, SignatureAlgorithm.HS256)
@@ -47,12 +62,28 @@ public class JwtService {
     }
 
     public Claims parseAndValidate(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody();
     }
+
+    // jti должен быть уникальным, но не секретным (токен подписан), поэтому
+    // вместо общего SecureRandom из UUID.randomUUID() берём ThreadLocalRandom без блокировок
+    private static String newTokenId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    // Возвращает null для токенов, выпущенных до появления authorities в claims
+    public UserDetails toUserDetails(Claims claims) {
+        Object authorities = claims.get(CLAIM_AUTHORITIES);
+        if (claims.getSubject() == null || !(authorities instanceof Collection<?> values)) {
+            return null;
+        }
+        return User.withUsername(claims.getSubject())
+                .password("")
+                .authorities(values.stream().map(String::valueOf).toArray(String[]::new))
+                .build();
+    }
 }
 
 
@@ -0,0 +1,29 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.security.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Разовый перенос refresh-токенов из ключей auth:refresh:<userId>:<jwt> в компактные хэши.
+// Выполняется после создания бинов, но до запуска веб-сервера, поэтому запросы не застают ещё не перенесённые токены.
+// После успешного переноса в Redis остаётся отметка, и следующие запуски keyspace не перебирают; ключи,
+// которые старые узлы пишут во время раскатки, переносятся лениво при обращении (jwt.legacyRefreshKeysEnabled).
+// Отключается через jwt.migrateLegacyRefreshKeys=false.
+@Component
+@ConditionalOnProperty(prefix = "jwt", name = "migrateLegacyRefreshKeys", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class LegacyRefreshTokenMigration implements SmartInitializingSingleton {
+    private final TokenStore tokenStore;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (tokenStore.isLegacyRefreshMigrationDone()) {
+            return;
+        }
+        long migrated = tokenStore.migrateLegacyRefreshTokens();
+        log.info("Перенесено refresh-токенов из старого формата: {}", migrated);
+    }
+}
@@ -0,0 +1,35 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationListener implements MessageListener {
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final AuthenticationCache authenticationCache;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(TokenStore.REVOCATION_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object jti = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (jti == null) {
+            log.warn("Пустое сообщение в канале {}", TokenStore.REVOCATION_CHANNEL);
+            return;
+        }
+        authenticationCache.revoke(jti.toString());
+    }
+}
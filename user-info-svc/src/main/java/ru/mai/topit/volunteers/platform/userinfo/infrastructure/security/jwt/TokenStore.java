@@ -1,14 +1,95 @@
 package ru.mai.topit.volunteers.platform.userinfo.infrastructure.security.jwt;
 
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
 
 @Component
 public class TokenStore {
-    private static final String REFRESH_PREFIX = "auth:refresh:";
+    // auth:rt:<userId> -> hash { отпечаток refresh-токена -> срок действия в epoch seconds }
+    private static final String REFRESH_PREFIX = "auth:rt:";
+    // Старый формат: auth:refresh:<userId>:<полный JWT> -> true
+    private static final String LEGACY_REFRESH_PREFIX = "auth:refresh:";
+    // Отметка о завершённом переносе старых ключей: повторный старт не перебирает keyspace заново
+    private static final String LEGACY_MIGRATION_MARKER = "auth:migrations:legacy-refresh-keys";
+    // auth:rt-revoked:<userId> -> epoch seconds последнего выхода со всех устройств.
+    // Старые ключи, созданные до этого момента, не принимаются: выход со всех устройств обходится без SCAN
+    private static final String REVOKED_ALL_PREFIX = "auth:rt-revoked:";
     private static final String BLACKLIST_PREFIX = "auth:blacklist:";
+    public static final String REVOCATION_CHANNEL = "auth:blacklist:events";
+
+    private static final int FINGERPRINT_BYTES = 16;
+
+    // Запись нового токена с попутной чисткой истёкших полей; TTL всего хэша продлевается
+    private static final RedisScript<Long> STORE_REFRESH_SCRIPT = new DefaultRedisScript<>(
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+                    "for i = 1, #entries, 2 do " +
+                    "if tonumber(entries[i + 1]) <= tonumber(ARGV[3]) then redis.call('HDEL', KEYS[1], entries[i]) end " +
+                    "end " +
+                    "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+                    "return 1",
+            Long.class);
+
+    // Проверка, удаление старого и запись нового refresh-токена за один round trip.
+    // Скрипт атомарен, поэтому из двух параллельных ротаций одного токена выигрывает только одна.
+    // Токен старого формата принимается, если его ключ создан после последнего выхода со всех устройств
+    // (момент создания — текущее время минус прожитая часть TTL), и заменяется новым в хэше.
+    private static final RedisScript<Long> ROTATE_REFRESH_SCRIPT = new DefaultRedisScript<>(
+            "local found = 0 " +
+                    "local expiresAt = redis.call('HGET', KEYS[1], ARGV[1]) " +
+                    "if expiresAt then " +
+                    "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+                    "if tonumber(expiresAt) > tonumber(ARGV[4]) then found = 1 end " +
+                    "elseif ARGV[6] == '1' then " +
+                    "local ttl = redis.call('TTL', KEYS[2]) " +
+                    "if ttl > 0 then " +
+                    "redis.call('DEL', KEYS[2]) " +
+                    "local revokedAt = redis.call('GET', KEYS[3]) " +
+                    "if not revokedAt or tonumber(ARGV[4]) - (tonumber(ARGV[5]) - ttl) > tonumber(revokedAt) then found = 1 end " +
+                    "end " +
+                    "end " +
+                    "if found == 1 then " +
+                    "redis.call('HSET', KEYS[1], ARGV[2], ARGV[3]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[5]) " +
+                    "end " +
+                    "return found",
+            Long.class);
+    // Ленивый перенос одного токена старого формата в хэш с теми же условиями, что при ротации
+    private static final RedisScript<Long> CLAIM_LEGACY_SCRIPT = new DefaultRedisScript<>(
+            "local ttl = redis.call('TTL', KEYS[2]) " +
+                    "if ttl <= 0 then return 0 end " +
+                    "redis.call('DEL', KEYS[2]) " +
+                    "local revokedAt = redis.call('GET', KEYS[3]) " +
+                    "if revokedAt and tonumber(ARGV[2]) - (tonumber(ARGV[3]) - ttl) <= tonumber(revokedAt) then return 0 end " +
+                    "redis.call('HSET', KEYS[1], ARGV[1], tonumber(ARGV[2]) + ttl) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    // Выход со всех устройств: удаляется хэш, а отметка времени отсекает ключи старого формата
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('UNLINK', KEYS[1]) " +
+                    "redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[2]) " +
+                    "return 1",
+            Long.class);
+
+    private static final StringRedisSerializer SCRIPT_ARGS_SERIALIZER = new StringRedisSerializer();
+    private static final GenericToStringSerializer<Long> SCRIPT_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final JwtProperties jwtProperties;
@@ -19,29 +100,115 @@ public class TokenStore {
     }
 
     public void storeRefreshToken(String userId, String refreshToken) {
-        String key = REFRESH_PREFIX + userId + ":" + refreshToken;
-        redisTemplate.opsForValue().set(key, true, Duration.ofSeconds(jwtProperties.getRefreshTtlSeconds()));
+        long now = Instant.now().getEpochSecond();
+        store(userId, fingerprint(refreshToken), now + jwtProperties.getRefreshTtlSeconds(), now);
     }
 
     public boolean hasRefreshToken(String userId, String refreshToken) {
-        String key = REFRESH_PREFIX + userId + ":" + refreshToken;
-        return redisTemplate.hasKey(key);
+        Object expiresAt = redisTemplate.opsForHash().get(REFRESH_PREFIX + userId, fingerprint(refreshToken));
+        if (expiresAt != null) {
+            return Long.parseLong(expiresAt.toString()) > Instant.now().getEpochSecond();
+        }
+        return jwtProperties.isLegacyRefreshKeysEnabled() && claimLegacyRefreshToken(userId, refreshToken);
     }
 
     public void revokeRefreshToken(String userId, String refreshToken) {
-        String key = REFRESH_PREFIX + userId + ":" + refreshToken;
-        redisTemplate.delete(key);
+        redisTemplate.opsForHash().delete(REFRESH_PREFIX + userId, fingerprint(refreshToken));
+        if (jwtProperties.isLegacyRefreshKeysEnabled()) {
+            redisTemplate.delete(legacyKey(userId, refreshToken));
+        }
+    }
+
+    // Завершение всех сессий пользователя одним скриптом, без перебора ключей: ключи старого формата
+    // не удаляются, но перестают приниматься и истекают по своему TTL
+    public void revokeAllRefreshTokens(String userId) {
+        redisTemplate.execute(REVOKE_ALL_SCRIPT, SCRIPT_ARGS_SERIALIZER, SCRIPT_RESULT_SERIALIZER,
+                List.of(REFRESH_PREFIX + userId, REVOKED_ALL_PREFIX + userId),
+                String.valueOf(Instant.now().getEpochSecond()),
+                String.valueOf(jwtProperties.getRefreshTtlSeconds()));
+    }
+
+    public boolean rotateRefreshToken(String userId, String oldRefreshToken, String newRefreshToken) {
+        long now = Instant.now().getEpochSecond();
+        Long rotated = redisTemplate.execute(ROTATE_REFRESH_SCRIPT, SCRIPT_ARGS_SERIALIZER, SCRIPT_RESULT_SERIALIZER,
+                List.of(REFRESH_PREFIX + userId, legacyKey(userId, oldRefreshToken), REVOKED_ALL_PREFIX + userId),
+                fingerprint(oldRefreshToken),
+                fingerprint(newRefreshToken),
+                String.valueOf(now + jwtProperties.getRefreshTtlSeconds()),
+                String.valueOf(now),
+                String.valueOf(jwtProperties.getRefreshTtlSeconds()),
+                jwtProperties.isLegacyRefreshKeysEnabled() ? "1" : "0");
+        return rotated != null && rotated == 1L;
+    }
+
+    public boolean isLegacyRefreshMigrationDone() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_MIGRATION_MARKER));
+    }
+
+    // Переносит ключи старого формата в хэши, сохраняя оставшийся срок жизни. Возвращает число перенесённых токенов.
+    // Каждый ключ переносится тем же скриптом, что и при ленивом переносе, поэтому токены, отозванные
+    // выходом со всех устройств, не воскресают. Перенос идемпотентен: параллельный запуск на нескольких узлах
+    // не дублирует токены.
+    public long migrateLegacyRefreshTokens() {
+        long migrated = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_REFRESH_PREFIX + "*").count(1000).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                String rest = key.substring(LEGACY_REFRESH_PREFIX.length());
+                int separator = rest.indexOf(':');
+                if (separator > 0 && claimLegacyRefreshToken(rest.substring(0, separator), rest.substring(separator + 1))) {
+                    migrated++;
+                } else {
+                    redisTemplate.unlink(key);
+                }
+            }
+        }
+        redisTemplate.opsForValue().set(LEGACY_MIGRATION_MARKER, true);
+        return migrated;
     }
 
     public void blacklistAccessToken(String jti, long ttlSeconds) {
         String key = BLACKLIST_PREFIX + jti;
         redisTemplate.opsForValue().set(key, true, Duration.ofSeconds(ttlSeconds));
+        // Оповещаем все узлы, чтобы они сбросили jti из локального кэша аутентификации
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, jti);
     }
 
     public boolean isAccessTokenBlacklisted(String jti) {
         String key = BLACKLIST_PREFIX + jti;
         return redisTemplate.hasKey(key);
     }
-}
 
+    private void store(String userId, String fingerprint, long expiresAt, long now) {
+        redisTemplate.execute(STORE_REFRESH_SCRIPT, SCRIPT_ARGS_SERIALIZER, SCRIPT_RESULT_SERIALIZER,
+                List.of(REFRESH_PREFIX + userId),
+                fingerprint,
+                String.valueOf(expiresAt),
+                String.valueOf(now),
+                String.valueOf(jwtProperties.getRefreshTtlSeconds()));
+    }
 
+    private boolean claimLegacyRefreshToken(String userId, String refreshToken) {
+        Long claimed = redisTemplate.execute(CLAIM_LEGACY_SCRIPT, SCRIPT_ARGS_SERIALIZER, SCRIPT_RESULT_SERIALIZER,
+                List.of(REFRESH_PREFIX + userId, legacyKey(userId, refreshToken), REVOKED_ALL_PREFIX + userId),
+                fingerprint(refreshToken),
+                String.valueOf(Instant.now().getEpochSecond()),
+                String.valueOf(jwtProperties.getRefreshTtlSeconds()));
+        return claimed != null && claimed == 1L;
+    }
+
+    private static String legacyKey(String userId, String refreshToken) {
+        return LEGACY_REFRESH_PREFIX + userId + ":" + refreshToken;
+    }
+
+    // 128 бит SHA-256 в base64url: 22 символа вместо сотен байт полного JWT
+    static String fingerprint(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, FINGERPRINT_BYTES));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
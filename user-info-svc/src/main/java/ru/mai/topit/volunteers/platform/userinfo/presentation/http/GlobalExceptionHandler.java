@@ -4,12 +4,15 @@ import io.swagger.v3.oas.annotations.Hidden;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.mai.topit.volunteers.platform.userinfo.application.exception.InvalidCredentialsException;
 import ru.mai.topit.volunteers.platform.userinfo.application.exception.InvalidRefreshTokenException;
+import ru.mai.topit.volunteers.platform.userinfo.application.exception.PasswordHashingOverloadedException;
 import ru.mai.topit.volunteers.platform.userinfo.application.exception.UserAlreadyExistsException;
 
 import java.time.OffsetDateTime;
@@ -36,6 +39,19 @@ public class GlobalExceptionHandler {
         return error(request, HttpStatus.UNAUTHORIZED, "INVALID_REFRESH_TOKEN", ex.getMessage(), null);
     }
 
+    @ExceptionHandler(PasswordHashingOverloadedException.class)
+    public ResponseEntity<Object> handlePasswordHashingOverloaded(PasswordHashingOverloadedException ex, HttpServletRequest request) {
+        ResponseEntity<Object> response = error(request, HttpStatus.SERVICE_UNAVAILABLE, "OVERLOADED", ex.getMessage(), null);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLock(ObjectOptimisticLockingFailureException ex, HttpServletRequest request) {
+        return error(request, HttpStatus.CONFLICT, "CONCURRENT_UPDATE", "Данные были изменены параллельно, повторите запрос", null);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Object> handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest request) {
         return error(request, HttpStatus.BAD_REQUEST, "BAD_REQUEST", ex.getMessage(), null);
@@ -40,6 +40,12 @@ public class AuthController {
         authService.logout(request.refreshToken());
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@Valid @RequestBody AuthDtos.RefreshRequest request) {
+        authService.logoutAll(request.refreshToken());
+        return ResponseEntity.noContent().build();
+    }
 }
 
 
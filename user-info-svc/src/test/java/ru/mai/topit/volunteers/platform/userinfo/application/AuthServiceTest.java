@@ -91,6 +91,22 @@ class AuthServiceTest {
         verify(tokenStore).storeRefreshToken("5", "refresh");
     }
 
+    @Test
+    void login_outdatedHash_rehashesPassword() {
+        User user = TestFixtures.user(5L, "john");
+        when(userRepository.findByLogin("john")).thenReturn(Optional.of(user));
+        when(jwtService.issueAccessToken(eq("john"), anyMap())).thenReturn("access");
+        when(jwtService.issueRefreshToken("john")).thenReturn("refresh");
+        when(passwordEncoder.matches("pass", "encoded")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encoded")).thenReturn(true);
+        when(passwordEncoder.encode("pass")).thenReturn("rehashed");
+
+        authService.login("john", "pass");
+
+        assertEquals("rehashed", user.getPassword());
+        verify(userRepository).save(user);
+    }
+
     @Test
     void login_userNotFound_throws() {
         when(userRepository.findByLogin("john")).thenReturn(Optional.empty());
@@ -104,16 +120,29 @@ class AuthServiceTest {
         when(claims.getSubject()).thenReturn("john");
         User user = TestFixtures.user(7L, "john");
         when(userRepository.findByLogin("john")).thenReturn(Optional.of(user));
-        when(tokenStore.hasRefreshToken("7", "oldRefresh")).thenReturn(true);
         when(jwtService.issueAccessToken(eq("john"), anyMap())).thenReturn("newAccess");
         when(jwtService.issueRefreshToken("john")).thenReturn("newRefresh");
+        when(tokenStore.rotateRefreshToken("7", "oldRefresh", "newRefresh")).thenReturn(true);
 
         Map<String, String> tokens = authService.refresh("oldRefresh");
 
         assertEquals("newAccess", tokens.get("accessToken"));
         assertEquals("newRefresh", tokens.get("refreshToken"));
-        verify(tokenStore).revokeRefreshToken("7", "oldRefresh");
-        verify(tokenStore).storeRefreshToken("7", "newRefresh");
+        verify(tokenStore).rotateRefreshToken("7", "oldRefresh", "newRefresh");
+    }
+
+    @Test
+    void refresh_tokenAlreadyRotated_throws() {
+        Claims claims = mock(Claims.class);
+        when(jwtService.parseAndValidate("oldRefresh")).thenReturn(claims);
+        when(claims.getSubject()).thenReturn("john");
+        User user = TestFixtures.user(7L, "john");
+        when(userRepository.findByLogin("john")).thenReturn(Optional.of(user));
+        when(jwtService.issueAccessToken(eq("john"), anyMap())).thenReturn("newAccess");
+        when(jwtService.issueRefreshToken("john")).thenReturn("newRefresh");
+        when(tokenStore.rotateRefreshToken("7", "oldRefresh", "newRefresh")).thenReturn(false);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.refresh("oldRefresh"));
     }
 
     @Test
@@ -137,6 +166,33 @@ class AuthServiceTest {
 
         verify(tokenStore).revokeRefreshToken("3", "refresh");
     }
+
+    @Test
+    void logoutAll_revokesEverySession() {
+        Claims claims = mock(Claims.class);
+        when(jwtService.parseAndValidate("refresh")).thenReturn(claims);
+        when(claims.getSubject()).thenReturn("john");
+        User user = TestFixtures.user(3L, "john");
+        when(userRepository.findByLogin("john")).thenReturn(Optional.of(user));
+        when(tokenStore.hasRefreshToken("3", "refresh")).thenReturn(true);
+
+        authService.logoutAll("refresh");
+
+        verify(tokenStore).revokeAllRefreshTokens("3");
+    }
+
+    @Test
+    void logoutAll_unknownRefreshToken_throws() {
+        Claims claims = mock(Claims.class);
+        when(jwtService.parseAndValidate("refresh")).thenReturn(claims);
+        when(claims.getSubject()).thenReturn("john");
+        User user = TestFixtures.user(3L, "john");
+        when(userRepository.findByLogin("john")).thenReturn(Optional.of(user));
+        when(tokenStore.hasRefreshToken("3", "refresh")).thenReturn(false);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> authService.logoutAll("refresh"));
+        verify(tokenStore, never()).revokeAllRefreshTokens(any());
+    }
 }
 
 
@@ -11,12 +11,14 @@ import ru.mai.topit.volunteers.platform.userinfo.domain.User;
 import ru.mai.topit.volunteers.platform.userinfo.domain.vo.SocialNetworks;
 import ru.mai.topit.volunteers.platform.userinfo.domain.vo.UserRole;
 import ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.RedisProvider;
+import ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.Versioned;
 import ru.mai.topit.volunteers.platform.userinfo.infrastructure.repository.UserRepository;
 import ru.mai.topit.volunteers.platform.userinfo.presentation.http.profile.dto.ProfileDtos;
 import ru.mai.topit.volunteers.platform.userinfo.support.fixtures.TestFixtures;
 
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -46,9 +48,9 @@ class ProfileServiceTest {
         String login = "john";
         ProfileDtos.ProfileResponse dto = new ProfileDtos.ProfileResponse(1L, login, "John Doe", "john@ex.com", "u@mai.ru", "IT", "G", LocalDate.of(2000, 1, 1), "L", new SocialNetworks("telegram", "@tg"), "john.contact@ex.com", UserRole.VOLUNTEER.name());
 
-        when(redisProvider.getAndCache(eq("user:profile:" + login), any(), any())).thenAnswer(inv -> {
-            Supplier<ProfileDtos.ProfileResponse> supplier = inv.getArgument(1);
-            return supplier.get();
+        when(redisProvider.getAndCacheVersioned(eq("user:profile:" + login), any(), any())).thenAnswer(inv -> {
+            Supplier<Versioned<ProfileDtos.ProfileResponse>> supplier = inv.getArgument(1);
+            return supplier.get().value();
         });
         User user = TestFixtures.user(1L, login);
         when(userRepository.findByLogin(login)).thenReturn(Optional.of(user));
@@ -62,9 +64,9 @@ class ProfileServiceTest {
     @Test
     void getProfileByLogin_userNotFound_throws() {
         String login = "missing";
-        when(redisProvider.getAndCache(eq("user:profile:" + login), any(), any())).thenAnswer(inv -> {
-            Supplier<ProfileDtos.ProfileResponse> supplier = inv.getArgument(1);
-            return supplier.get();
+        when(redisProvider.getAndCacheVersioned(eq("user:profile:" + login), any(), any())).thenAnswer(inv -> {
+            Supplier<Versioned<ProfileDtos.ProfileResponse>> supplier = inv.getArgument(1);
+            return supplier.get().value();
         });
         when(userRepository.findByLogin(login)).thenReturn(Optional.empty());
 
@@ -72,16 +74,16 @@ class ProfileServiceTest {
     }
 
     @Test
-    void updateProfileByLogin_success_updatesAndEvicts() {
+    void updateProfileByLogin_success_updatesAndWritesThrough() {
         String login = "john";
         ProfileDtos.ProfileUpdateRequest req = new ProfileDtos.ProfileUpdateRequest("John", null, null, null, null, null, null, null, null);
         User user = TestFixtures.user(1L, login);
         User saved = TestFixtures.user(1L, login);
         ProfileDtos.ProfileResponse dto = new ProfileDtos.ProfileResponse(1L, login, "John", "john@ex.com", "u@mai.ru", "IT", "G", LocalDate.of(2000, 1, 1), "L", new SocialNetworks("telegram", "@tg"), "john.contact@ex.com", UserRole.MODERATOR.name());
 
-        when(redisProvider.upsertDataAndEvictCache(eq("user:profile:" + login), any())).thenAnswer(inv -> {
-            Supplier<ProfileDtos.ProfileResponse> supplier = inv.getArgument(1);
-            return supplier.get();
+        when(redisProvider.upsertDataAndWriteThrough(eq("user:profile:" + login), any())).thenAnswer(inv -> {
+            Supplier<Versioned<ProfileDtos.ProfileResponse>> supplier = inv.getArgument(1);
+            return supplier.get().value();
         });
         when(userRepository.findByLogin(login)).thenReturn(Optional.of(user));
         when(userRepository.save(user)).thenReturn(saved);
@@ -93,13 +95,37 @@ class ProfileServiceTest {
         verify(profileMapper).updateEntityFromRequest(req, user);
     }
 
+    @Test
+    void updateProfileByLogin_cachesProfileWithSavedVersion() {
+        String login = "john";
+        ProfileDtos.ProfileUpdateRequest req = new ProfileDtos.ProfileUpdateRequest("John", null, null, null, null, null, null, null, null);
+        User user = TestFixtures.user(1L, login);
+        User saved = TestFixtures.user(1L, login);
+        saved.setVersion(7L);
+        ProfileDtos.ProfileResponse dto = new ProfileDtos.ProfileResponse(1L, login, "John", "john@ex.com", "u@mai.ru", "IT", "G", LocalDate.of(2000, 1, 1), "L", new SocialNetworks("telegram", "@tg"), "john.contact@ex.com", UserRole.VOLUNTEER.name());
+        AtomicReference<Versioned<ProfileDtos.ProfileResponse>> written = new AtomicReference<>();
+
+        when(redisProvider.upsertDataAndWriteThrough(eq("user:profile:" + login), any())).thenAnswer(inv -> {
+            Supplier<Versioned<ProfileDtos.ProfileResponse>> supplier = inv.getArgument(1);
+            written.set(supplier.get());
+            return written.get().value();
+        });
+        when(userRepository.findByLogin(login)).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(saved);
+        when(profileMapper.toDto(saved)).thenReturn(dto);
+
+        profileService.updateProfileByLogin(login, req);
+
+        assertEquals(new Versioned<>(7L, dto), written.get());
+    }
+
     @Test
     void updateProfileByLogin_userNotFound_throws() {
         String login = "missing";
         ProfileDtos.ProfileUpdateRequest req = new ProfileDtos.ProfileUpdateRequest(null, null, null, null, null, null, null, null, null);
-        when(redisProvider.upsertDataAndEvictCache(eq("user:profile:" + login), any())).thenAnswer(inv -> {
-            Supplier<ProfileDtos.ProfileResponse> supplier = inv.getArgument(1);
-            return supplier.get();
+        when(redisProvider.upsertDataAndWriteThrough(eq("user:profile:" + login), any())).thenAnswer(inv -> {
+            Supplier<Versioned<ProfileDtos.ProfileResponse>> supplier = inv.getArgument(1);
+            return supplier.get().value();
         });
         when(userRepository.findByLogin(login)).thenReturn(Optional.empty());
 
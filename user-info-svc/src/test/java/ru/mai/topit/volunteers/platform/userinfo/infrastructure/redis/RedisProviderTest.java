@@ -0,0 +1,75 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.codec.CacheCodecRegistry;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisProviderTest {
+
+    static final String KEY = "user:profile:john";
+    static final String CACHE_KEY = "op:cache:vh:" + KEY;
+
+    @Mock
+    RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    RedisTemplate<String, byte[]> cacheRedisTemplate;
+    @Mock
+    HashOperations<String, Object, Object> hashOperations;
+
+    RedisProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties properties = new CacheProperties();
+        provider = new RedisProvider(redisTemplate, cacheRedisTemplate,
+                new CacheCodecRegistry(List.of(), properties), properties, new SimpleMeterRegistry());
+        when(cacheRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        // Redis пуст: каждое чтение идёт в источник
+        when(hashOperations.multiGet(anyString(), anyCollection())).thenAnswer(inv -> Arrays.asList(null, null));
+    }
+
+    @Test
+    void staleReadFinishingAfterWriteAndOwnInvalidation_isNotCachedLocally() {
+        String stale = provider.getAndCacheVersioned(KEY, () -> {
+            // Запись и её собственная инвалидация по pub/sub успевают до того, как читатель положит результат в L1
+            provider.upsertDataAndWriteThrough(KEY, () -> new Versioned<>(2, "new"));
+            provider.evictLocal(CACHE_KEY);
+            return new Versioned<>(1, "old");
+        }, String.class);
+
+        String next = provider.getAndCacheVersioned(KEY, () -> new Versioned<>(2, "new"), String.class);
+
+        assertEquals("old", stale);
+        assertEquals("new", next);
+        verify(redisTemplate).convertAndSend(RedisProvider.INVALIDATION_CHANNEL, CACHE_KEY);
+    }
+
+    @Test
+    void newerVersionAfterInvalidation_replacesLocalValue() {
+        provider.getAndCacheVersioned(KEY, () -> new Versioned<>(1, "old"), String.class);
+        provider.evictLocal(CACHE_KEY);
+
+        provider.getAndCacheVersioned(KEY, () -> new Versioned<>(3, "newest"), String.class);
+        String cached = provider.getAndCacheVersioned(KEY, () -> new Versioned<>(0, "unexpected"), String.class);
+
+        assertEquals("newest", cached);
+        verify(hashOperations, times(2)).multiGet(anyString(), anyCollection());
+        verify(cacheRedisTemplate, never()).delete(any(String.class));
+    }
+}
@@ -0,0 +1,104 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.codec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.mai.topit.volunteers.platform.userinfo.domain.vo.SocialNetworks;
+import ru.mai.topit.volunteers.platform.userinfo.infrastructure.redis.CacheProperties;
+import ru.mai.topit.volunteers.platform.userinfo.presentation.http.profile.dto.ProfileDtos;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheCodecRegistryTest {
+
+    CacheProperties properties;
+    CacheCodecRegistry registry;
+    ProfileDtos.ProfileResponse profile = new ProfileDtos.ProfileResponse(1L, "john", "John Doe", "john@ex.com",
+            "u12345@mai.ru", "IT", "M8O-101B-23", LocalDate.of(2000, 1, 1), "L",
+            new SocialNetworks("@tg", null), "john.contact@ex.com", "VOLUNTEER");
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheProperties();
+        registry = new CacheCodecRegistry(List.of(new ProfileResponseCodec()), properties);
+    }
+
+    @Test
+    void profile_roundTripsThroughOwnCodec() {
+        byte[] encoded = registry.encode(profile);
+
+        assertEquals(ProfileResponseCodec.ID, encoded[2]);
+        assertEquals(profile, registry.decode(encoded, ProfileDtos.ProfileResponse.class));
+    }
+
+    @Test
+    void typeWithoutCodec_roundTripsThroughSmile() {
+        Map<String, String> value = Map.of("telegram", "@tg");
+
+        byte[] encoded = registry.encode(value);
+
+        assertEquals(SmileCacheCodec.ID, encoded[2]);
+        assertEquals(value, registry.decode(encoded, Map.class));
+    }
+
+    @Test
+    void largeValue_isCompressed() {
+        properties.getCompression().setThresholdBytes(64);
+        ProfileDtos.ProfileResponse large = new ProfileDtos.ProfileResponse(1L, "john", "x".repeat(4096),
+                null, null, null, null, null, null, null, null, "VOLUNTEER");
+
+        byte[] encoded = registry.encode(large);
+
+        assertEquals(1, encoded[3]);
+        assertTrue(encoded.length < 4096);
+        assertEquals(large, registry.decode(encoded, ProfileDtos.ProfileResponse.class));
+    }
+
+    @Test
+    void legacyJsonValue_isRejected() {
+        byte[] legacy = "\"{\\\"id\\\":1}\"".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(CacheDecodeException.class,
+                () -> registry.decode(legacy, ProfileDtos.ProfileResponse.class));
+    }
+
+    @Test
+    void compressedValueWithHugeDeclaredLength_isRejectedBeforeAllocation() {
+        byte[] forged = ByteBuffer.allocate(12)
+                .put(registry.encode(profile), 0, 3)
+                .put((byte) 1)
+                .putInt(Integer.MAX_VALUE)
+                .putInt(0)
+                .array();
+
+        assertThrows(CacheDecodeException.class,
+                () -> registry.decode(forged, ProfileDtos.ProfileResponse.class));
+    }
+
+    @Test
+    void profileStringWithHugeDeclaredLength_isRejectedBeforeAllocation() {
+        byte[] forged = ByteBuffer.allocate(4 + 1 + Long.BYTES + Integer.BYTES)
+                .put(registry.encode(profile), 0, 4)
+                .put((byte) 1)
+                .putLong(1L)
+                .putInt(Integer.MAX_VALUE)
+                .array();
+
+        assertThrows(CacheDecodeException.class,
+                () -> registry.decode(forged, ProfileDtos.ProfileResponse.class));
+    }
+
+    @Test
+    void corruptedPayload_isRejectedAsDecodeFailure() {
+        byte[] encoded = registry.encode(Map.of("telegram", "@tg"));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        assertThrows(CacheDecodeException.class, () -> registry.decode(truncated, Map.class));
+    }
+}
@@ -0,0 +1,59 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationCacheTest {
+
+    JwtProperties properties;
+    AuthenticationCache cache;
+    UserDetails john = User.withUsername("john").password("encoded").authorities("VOLUNTEER").build();
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        cache = new AuthenticationCache(properties);
+    }
+
+    @Test
+    void put_thenGet_returnsCachedUserDetails() {
+        cache.put("jti-1", john, Date.from(Instant.now().plusSeconds(60)));
+
+        assertSame(john, cache.get("jti-1"));
+    }
+
+    @Test
+    void put_expiredToken_isNotReturned() {
+        cache.put("jti-1", john, Date.from(Instant.now().minusSeconds(1)));
+
+        assertNull(cache.get("jti-1"));
+    }
+
+    @Test
+    void revoke_dropsEntryAndBlocksFurtherPuts() {
+        cache.put("jti-1", john, Date.from(Instant.now().plusSeconds(60)));
+
+        cache.revoke("jti-1");
+        cache.put("jti-1", john, Date.from(Instant.now().plusSeconds(60)));
+
+        assertNull(cache.get("jti-1"));
+        assertTrue(cache.isRevoked("jti-1"));
+    }
+
+    @Test
+    void disabledCache_neverStores() {
+        properties.getCache().setEnabled(false);
+        cache = new AuthenticationCache(properties);
+
+        cache.put("jti-1", john, Date.from(Instant.now().plusSeconds(60)));
+
+        assertNull(cache.get("jti-1"));
+    }
+}
@@ -0,0 +1,46 @@
+package ru.mai.topit.volunteers.platform.userinfo.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("dGhpc19faXNfYV9zZWN1cmVfMzJieXRlX2Jhc2U2NF9rZXk=");
+        jwtService = new JwtService(properties);
+    }
+
+    @Test
+    void toUserDetails_buildsPrincipalFromClaims() {
+        String token = jwtService.issueAccessToken("john", Map.of(
+                JwtService.CLAIM_UID, 5L,
+                JwtService.CLAIM_ROLE, "MODERATOR",
+                JwtService.CLAIM_AUTHORITIES, List.of("MODERATOR")));
+
+        UserDetails userDetails = jwtService.toUserDetails(jwtService.parseAndValidate(token));
+
+        assertEquals("john", userDetails.getUsername());
+        assertEquals(List.of("MODERATOR"), userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void toUserDetails_legacyTokenWithoutAuthorities_returnsNull() {
+        String token = jwtService.issueAccessToken("john", Map.of(JwtService.CLAIM_UID, 5L));
+
+        Claims claims = jwtService.parseAndValidate(token);
+
+        assertNull(jwtService.toUserDetails(claims));
+    }
+}
@@ -39,6 +39,7 @@ public class TestFixtures {
         u.setContactEmail("john.contact@ex.com");
         u.setCreatedAt(OffsetDateTime.now());
         u.setUpdatedAt(OffsetDateTime.now());
+        u.setVersion(0L);
         return u;
     }
 }